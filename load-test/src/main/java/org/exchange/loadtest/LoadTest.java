@@ -0,0 +1,159 @@
+package org.exchange.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open loop load generator for the exchange service.
+ * <p>
+ * Requests are scheduled at precomputed intended start times and never wait for previous responses.
+ * Latency is measured from the intended start time, so a stalled service is charged for every
+ * request it delayed and results do not suffer from coordinated omission.
+ * At most {@link LoadTestOptions#connections()} requests are in flight, HTTP/1.1 client never opens more
+ * connections than that. When every connection is busy the next request waits, still charged from its intended start.
+ */
+public class LoadTest {
+    private final LoadTestOptions options;
+    private final OrderFlow orderFlow;
+    private final HttpClient httpClient;
+    private final ExecutorService httpExecutor;
+    private final Map<OrderFlow.Operation, LatencyHistogram> latencies = new EnumMap<>(OrderFlow.Operation.class);
+    private final Map<OrderFlow.Operation, LongAdder> errors = new EnumMap<>(OrderFlow.Operation.class);
+    private final Semaphore connections;
+    private volatile boolean recording;
+
+    LoadTest(LoadTestOptions options, OrderFlow orderFlow) {
+        this.options = options;
+        this.orderFlow = orderFlow;
+        this.connections = new Semaphore(options.connections());
+        this.httpExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+        for (var operation : OrderFlow.Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(1);
+            return;
+        }
+        var assets = SeedData.readAssets(options.seedData());
+        System.out.printf("Target %s, %d users, assets %s, mix %d:%d:%d, %.0f req/s %s arrivals%n",
+                options.baseUrl(), options.users(), assets, options.createWeight(), options.cancelWeight(),
+                options.searchWeight(), options.rate(), options.arrival().name().toLowerCase());
+        new LoadTest(options, new OrderFlow(options, assets)).run();
+    }
+
+    void run() throws InterruptedException {
+        if (!options.warmUp().isZero()) {
+            System.out.printf("Warming up for %ds%n", options.warmUp().toSeconds());
+            drive(options.warmUp());
+        }
+        for (var operation : OrderFlow.Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+        recording = true;
+        System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+        var elapsed = drive(options.duration());
+        //Waits for requests in flight
+        connections.acquireUninterruptibly(options.connections());
+        httpExecutor.shutdown();
+        httpExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        report(elapsed);
+    }
+
+    private long drive(Duration duration) {
+        var meanGapNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        var start = System.nanoTime();
+        var end = start + duration.toNanos();
+        double intended = start;
+        while (intended < end) {
+            var intendedStart = (long) intended;
+            var now = System.nanoTime();
+            if (intendedStart > now) {
+                LockSupport.parkNanos(intendedStart - now);
+                continue;
+            }
+            send(intendedStart);
+            intended += options.arrival() == LoadTestOptions.Arrival.POISSON
+                    ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void send(long intendedStart) {
+        var operation = orderFlow.nextOperation();
+        var request = switch (operation) {
+            case CREATE -> orderFlow.create();
+            case CANCEL -> orderFlow.cancel();
+            case SEARCH -> orderFlow.search();
+        };
+        if (request == null) {
+            //Nothing to cancel yet
+            operation = OrderFlow.Operation.CREATE;
+            request = orderFlow.create();
+        }
+        var sentOperation = operation;
+        var histogram = latencies.get(sentOperation);
+        var errorCount = errors.get(sentOperation);
+        var record = recording;
+        connections.acquireUninterruptibly();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    var latency = System.nanoTime() - intendedStart;
+                    if (failure != null || response.statusCode() >= 400) {
+                        errorCount.increment();
+                    } else if (sentOperation == OrderFlow.Operation.CREATE) {
+                        orderFlow.onCreated(response.body());
+                    }
+                    if (record) {
+                        histogram.record(latency);
+                    }
+                    connections.release();
+                });
+    }
+
+    private void report(long elapsedNanos) {
+        var seconds = elapsedNanos / 1e9;
+        System.out.printf("%n%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long total = 0;
+        for (var operation : OrderFlow.Operation.values()) {
+            var histogram = latencies.get(operation);
+            var count = histogram.count();
+            total += count;
+            System.out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation.name().toLowerCase(), count, errors.get(operation).sum(), count / seconds,
+                    millis(histogram.percentile(50)), millis(histogram.percentile(90)), millis(histogram.percentile(99)),
+                    millis(histogram.percentile(99.9)), millis(histogram.max()));
+        }
+        System.out.printf("%-8s %10d %8s %10.1f%n", "total", total, "", total / seconds);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,111 @@
+package org.exchange.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test parameters. Every option can be passed as --name=value.
+ */
+record LoadTestOptions(String baseUrl,
+                       int users,
+                       Path seedData,
+                       int createWeight,
+                       int cancelWeight,
+                       int searchWeight,
+                       double rate,
+                       Arrival arrival,
+                       Duration warmUp,
+                       Duration duration,
+                       int connections) {
+
+    enum Arrival {
+        /**
+         * Exponentially distributed gaps between requests, the way independent clients arrive.
+         */
+        POISSON,
+        /**
+         * Requests are sent with equal gaps.
+         */
+        UNIFORM
+    }
+
+    static final String USAGE = """
+            Usage: java -jar exchange-load-test-1.0.jar [options]
+              --url=http://localhost:8080   service base url
+              --users=100                   orders are created for users with ids 1..users
+              --seed=../src/main/resources/data.sql
+                                            sql seed file the traded assets are read from
+              --mix=60:20:20                create:cancel:search ratio
+              --rate=500                    requests per second
+              --arrival=poisson             poisson or uniform
+              --warmup=10s                  warm up duration, not included in results
+              --duration=60s                measured duration
+              --connections=32              most connections to the service, requests in flight are capped by it
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        var baseUrl = "http://localhost:8080";
+        var users = 100;
+        var seedData = Path.of("../src/main/resources/data.sql");
+        var mix = new int[]{60, 20, 20};
+        var rate = 500.0;
+        var arrival = Arrival.POISSON;
+        var warmUp = Duration.ofSeconds(10);
+        var duration = Duration.ofSeconds(60);
+        var connections = 32;
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            var name = arg.substring(2, arg.indexOf('='));
+            var value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "url" -> baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "users" -> users = Integer.parseInt(value);
+                case "seed" -> seedData = Path.of(value);
+                case "mix" -> mix = parseMix(value);
+                case "rate" -> rate = Double.parseDouble(value);
+                case "arrival" -> arrival = Arrival.valueOf(value.toUpperCase());
+                case "warmup" -> warmUp = parseDuration(value);
+                case "duration" -> duration = parseDuration(value);
+                case "connections" -> connections = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+        if (users < 1 || rate <= 0 || connections < 1) {
+            throw new IllegalArgumentException("users, rate and connections should be positive");
+        }
+        return new LoadTestOptions(baseUrl, users, seedData, mix[0], mix[1], mix[2], rate, arrival, warmUp, duration, connections);
+    }
+
+    private static int[] parseMix(String value) {
+        var parts = value.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Mix should be given as create:cancel:search");
+        }
+        var mix = new int[3];
+        for (int i = 0; i < 3; i++) {
+            mix[i] = Integer.parseInt(parts[i]);
+            if (mix[i] < 0) {
+                throw new IllegalArgumentException("Mix weights should not be negative");
+            }
+        }
+        if (mix[0] + mix[1] + mix[2] == 0) {
+            throw new IllegalArgumentException("At least one mix weight should be positive");
+        }
+        return mix;
+    }
+
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
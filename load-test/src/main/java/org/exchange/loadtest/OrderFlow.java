@@ -0,0 +1,87 @@
+package org.exchange.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Generates order requests with the configured create:cancel:search mix and
+ * remembers created orders, so that cancellations hit real open orders.
+ */
+class OrderFlow {
+    enum Operation {
+        CREATE, CANCEL, SEARCH
+    }
+
+    private static final Pattern ORDER_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] SIDES = {"BUY", "SELL"};
+    private static final String[] SEARCH_STATUSES = {"", "&status=NEW", "&status=COMPLETED"};
+
+    private final LoadTestOptions options;
+    private final List<String> assets;
+    private final ConcurrentLinkedQueue<Long> openOrders = new ConcurrentLinkedQueue<>();
+
+    OrderFlow(LoadTestOptions options, List<String> assets) {
+        this.options = options;
+        this.assets = assets;
+    }
+
+    Operation nextOperation() {
+        var totalWeight = options.createWeight() + options.cancelWeight() + options.searchWeight();
+        var draw = ThreadLocalRandom.current().nextInt(totalWeight);
+        if (draw < options.createWeight()) {
+            return Operation.CREATE;
+        }
+        if (draw < options.createWeight() + options.cancelWeight()) {
+            return Operation.CANCEL;
+        }
+        return Operation.SEARCH;
+    }
+
+    HttpRequest create() {
+        var random = ThreadLocalRandom.current();
+        var price = BigDecimal.valueOf(random.nextLong(1_000, 10_000_000), 2);
+        var body = "{\"userId\":" + randomUser() + ",\"asset\":\"" + assets.get(random.nextInt(assets.size()))
+                + "\",\"price\":" + price.toPlainString() + ",\"type\":\"" + SIDES[random.nextInt(SIDES.length)] + "\"}";
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/v1/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * Cancels one of previously created orders, or returns null when there is nothing to cancel yet.
+     */
+    HttpRequest cancel() {
+        var orderId = openOrders.poll();
+        if (orderId == null) {
+            return null;
+        }
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/v1/orders/" + orderId))
+                .DELETE()
+                .build();
+    }
+
+    HttpRequest search() {
+        var status = SEARCH_STATUSES[ThreadLocalRandom.current().nextInt(SEARCH_STATUSES.length)];
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/v1/orders?userId=" + randomUser()
+                        + status + "&page=0&size=20&sort=timestamp,desc"))
+                .GET()
+                .build();
+    }
+
+    void onCreated(String responseBody) {
+        var matcher = ORDER_ID.matcher(responseBody);
+        if (matcher.find()) {
+            openOrders.add(Long.parseLong(matcher.group(1)));
+        }
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt(1, options.users() + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package org.exchange.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reads asset short names from the service sql seed file.
+ */
+final class SeedData {
+    private static final Pattern ASSET_INSERT = Pattern.compile(
+            "insert\\s+into\\s+Assets\\s*\\(\\s*short_name\\s*,\\s*name\\s*\\)\\s*values\\s*\\(\\s*'([^']+)'",
+            Pattern.CASE_INSENSITIVE);
+
+    private SeedData() {
+    }
+
+    static List<String> readAssets(Path seedData) throws IOException {
+        var matcher = ASSET_INSERT.matcher(Files.readString(seedData));
+        var assets = matcher.results().map(result -> result.group(1)).toList();
+        if (assets.isEmpty()) {
+            throw new IllegalArgumentException("No assets found in " + seedData);
+        }
+        return assets;
+    }
+}
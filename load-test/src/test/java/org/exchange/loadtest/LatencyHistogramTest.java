@@ -0,0 +1,66 @@
+package org.exchange.loadtest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentilesOfExactValuesTest() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        Assertions.assertEquals(100, histogram.count());
+        Assertions.assertEquals(50, histogram.percentile(50));
+        Assertions.assertEquals(90, histogram.percentile(90));
+        Assertions.assertEquals(99, histogram.percentile(99));
+        Assertions.assertEquals(100, histogram.percentile(99.9));
+        Assertions.assertEquals(100, histogram.max());
+    }
+
+    @Test
+    void percentilesWithinPrecisionTest() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertWithinPrecision(5_000_000, histogram.percentile(50));
+        assertWithinPrecision(9_900_000, histogram.percentile(99));
+        assertWithinPrecision(9_990_000, histogram.percentile(99.9));
+        assertWithinPrecision(10_000_000, histogram.max());
+    }
+
+    @Test
+    void emptyHistogramTest() {
+        var histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.percentile(99));
+        Assertions.assertEquals(0, histogram.max());
+    }
+
+    @Test
+    void negativeLatencyRecordedAsZeroTest() {
+        var histogram = new LatencyHistogram();
+        histogram.record(-5);
+
+        Assertions.assertEquals(1, histogram.count());
+        Assertions.assertEquals(0, histogram.max());
+    }
+
+    @Test
+    void bucketContainsItsValuesTest() {
+        for (long value : new long[]{255, 256, 511, 512, 1_000_003, Long.MAX_VALUE}) {
+            var index = LatencyHistogram.indexOf(value);
+            Assertions.assertTrue(LatencyHistogram.highestValueOf(index) >= value);
+            Assertions.assertTrue(index == 0 || LatencyHistogram.highestValueOf(index - 1) < value);
+        }
+    }
+
+    //Reported value is the highest value of the bucket, never below and less than 1% above the actual one
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertTrue(actual >= expected && actual <= expected * 1.01, () -> "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,56 @@
+package org.exchange.loadtest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+class LoadTestOptionsTest {
+
+    @Test
+    void defaultOptionsTest() {
+        var options = LoadTestOptions.parse(new String[0]);
+
+        Assertions.assertEquals("http://localhost:8080", options.baseUrl());
+        Assertions.assertEquals(100, options.users());
+        Assertions.assertEquals(60, options.createWeight());
+        Assertions.assertEquals(LoadTestOptions.Arrival.POISSON, options.arrival());
+        Assertions.assertEquals(Duration.ofSeconds(10), options.warmUp());
+        Assertions.assertEquals(32, options.connections());
+    }
+
+    @Test
+    void parseOptionsTest() {
+        var options = LoadTestOptions.parse(new String[]{"--url=http://exchange:8081/", "--users=1000", "--seed=data.sql",
+                "--mix=70:0:30", "--rate=2500.5", "--arrival=uniform", "--warmup=500ms", "--duration=2m", "--connections=1000"});
+
+        Assertions.assertEquals("http://exchange:8081", options.baseUrl());
+        Assertions.assertEquals(1000, options.users());
+        Assertions.assertEquals(Path.of("data.sql"), options.seedData());
+        Assertions.assertEquals(70, options.createWeight());
+        Assertions.assertEquals(0, options.cancelWeight());
+        Assertions.assertEquals(30, options.searchWeight());
+        Assertions.assertEquals(2500.5, options.rate());
+        Assertions.assertEquals(LoadTestOptions.Arrival.UNIFORM, options.arrival());
+        Assertions.assertEquals(Duration.ofMillis(500), options.warmUp());
+        Assertions.assertEquals(Duration.ofMinutes(2), options.duration());
+        Assertions.assertEquals(1000, options.connections());
+    }
+
+    @Test
+    void durationWithoutUnitInSecondsTest() {
+        Assertions.assertEquals(Duration.ofSeconds(15), LoadTestOptions.parse(new String[]{"--duration=15"}).duration());
+    }
+
+    @Test
+    void invalidOptionsRejectedTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--unknown=1"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"users=10"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--mix=60:40"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--mix=0:0:0"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--mix=70:-10:40"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--connections=0"}));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(new String[]{"--arrival=bursty"}));
+    }
+}
@@ -0,0 +1,56 @@
+package org.exchange.cluster;
+
+import org.exchange.service.OrderServiceImpl;
+import org.exchange.service.StopOrderServiceImpl;
+import org.exchange.service.UserStatsServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+@ConditionalOnProperty(prefix = "exchange.cluster", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ClusterProperties.class)
+public class ClusterConfiguration {
+
+    @Bean
+    public ShardRouter shardRouter(ClusterProperties clusterProperties) {
+        return new ShardRouter(clusterProperties);
+    }
+
+    @Bean
+    public ShardIdentityInitializer shardIdentityInitializer(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        return new ShardIdentityInitializer(jdbcTemplate, shardRouter);
+    }
+
+    @Bean
+    public ShardClient shardClient(RestClient.Builder restClientBuilder, ClusterProperties clusterProperties, ShardRouter shardRouter) {
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) clusterProperties.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) clusterProperties.getReadTimeout().toMillis());
+        return new ShardClient(restClientBuilder.requestFactory(requestFactory).build(),
+                clusterProperties.getFanOutConcurrency() * (shardRouter.nodeCount() - 1));
+    }
+
+    @Bean
+    @Primary
+    public ShardedOrderService shardedOrderService(OrderServiceImpl orderService, ShardRouter shardRouter, ShardClient shardClient) {
+        return new ShardedOrderService(orderService, shardRouter, shardClient);
+    }
+
+    @Bean
+    @Primary
+    public ShardedStopOrderService shardedStopOrderService(StopOrderServiceImpl stopOrderService, ShardRouter shardRouter, ShardClient shardClient) {
+        return new ShardedStopOrderService(stopOrderService, shardRouter, shardClient);
+    }
+
+    @Bean
+    @Primary
+    public ShardedUserStatsService shardedUserStatsService(UserStatsServiceImpl userStatsService, ShardRouter shardRouter, ShardClient shardClient) {
+        return new ShardedUserStatsService(userStatsService, shardRouter, shardClient);
+    }
+}
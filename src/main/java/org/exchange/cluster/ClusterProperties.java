@@ -0,0 +1,44 @@
+package org.exchange.cluster;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "exchange.cluster")
+@Getter
+@Setter
+public class ClusterProperties {
+    /**
+     * Enables sharded deployment mode.
+     */
+    private boolean enabled;
+
+    /**
+     * Base urls of all nodes. Must be listed in the same order on every node.
+     */
+    private List<String> nodes = new ArrayList<>();
+
+    /**
+     * Position of this node in the nodes list.
+     */
+    private int nodeIndex;
+
+    /**
+     * Number of points every node occupies on the hash ring.
+     */
+    private int virtualNodes = 128;
+
+    /**
+     * Number of searches and statistics requests expected to fan out at the same time.
+     * Fan-out pool has this many threads for every remote node, so concurrent requests do not wait for each other.
+     */
+    private int fanOutConcurrency = 32;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    private Duration readTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,46 @@
+package org.exchange.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring mapping keys to node indexes. Every node is placed on the ring
+ * several times, so adding a node moves only a proportional share of keys to it.
+ * The hash is computed from UTF-8 bytes and is stable across JVMs.
+ */
+public class ConsistentHashRing {
+    private final NavigableMap<Integer, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring requires at least one node");
+        }
+        for (int node = 0; node < nodes.size(); node++) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring.putIfAbsent(hash(nodes.get(node) + "#" + replica), node);
+            }
+        }
+    }
+
+    public int nodeFor(String key) {
+        var entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    //32 bit FNV-1a followed by murmur3 finalizer to spread short keys over the whole ring
+    static int hash(String key) {
+        int hash = 0x811c9dc5;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
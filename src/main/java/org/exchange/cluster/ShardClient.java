@@ -0,0 +1,178 @@
+package org.exchange.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.dto.OrderSliceDto;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls internal endpoints of other cluster nodes and translates their error responses
+ * back to the exceptions thrown by the local order service.
+ */
+public class ShardClient {
+    static final String INTERNAL_API = "/internal/v1";
+
+    private final RestClient restClient;
+    private final ExecutorService fanOutExecutor;
+
+    //Pool is sized for peak fan-out, threads above the idle load time out
+    public ShardClient(RestClient restClient, int fanOutThreads) {
+        this.restClient = restClient;
+        var threads = Math.max(1, fanOutThreads);
+        var executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        this.fanOutExecutor = executor;
+    }
+
+    public OrderResponseDto getOrder(String node, Long orderId) throws OrderNotFoundException {
+        var response = exchange(restClient.get().uri(node + INTERNAL_API + "/orders/{id}", orderId), OrderResponseDto.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new OrderNotFoundException(response.error());
+        }
+        return response.body(node);
+    }
+
+    public OrderResponseDto createOrder(String node, OrderRequestDto order) throws UserNotFoundException, AssetNotRecognizedException, RiskLimitExceededException {
+        var response = exchange(restClient.post().uri(node + INTERNAL_API + "/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(order), OrderResponseDto.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new UserNotFoundException(response.error());
+        }
+        if (response.is(HttpStatus.BAD_REQUEST)) {
+            throw new AssetNotRecognizedException(response.error());
+        }
+        if (response.is(HttpStatus.UNPROCESSABLE_ENTITY)) {
+            throw new RiskLimitExceededException(response.error());
+        }
+        return response.body(node);
+    }
+
+    public void cancelOrder(String node, Long orderId) throws OrderNotFoundException, OrderCancellationException {
+        var response = exchange(restClient.delete().uri(node + INTERNAL_API + "/orders/{id}", orderId), Void.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new OrderNotFoundException(response.error());
+        }
+        if (response.is(HttpStatus.BAD_REQUEST)) {
+            throw new OrderCancellationException(response.error());
+        }
+        response.body(node);
+    }
+
+    public void completeOrder(String node, Long orderId) throws OrderNotFoundException {
+        var response = exchange(restClient.post().uri(node + INTERNAL_API + "/orders/{id}/complete", orderId), Void.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new OrderNotFoundException(response.error());
+        }
+        response.body(node);
+    }
+
+    public StopOrderResponseDto getStopOrder(String node, Long stopOrderId) throws OrderNotFoundException {
+        var response = exchange(restClient.get().uri(node + INTERNAL_API + "/stop-orders/{id}", stopOrderId), StopOrderResponseDto.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new OrderNotFoundException(response.error());
+        }
+        return response.body(node);
+    }
+
+    public StopOrderResponseDto createStopOrder(String node, StopOrderRequestDto stopOrder) throws UserNotFoundException, AssetNotRecognizedException {
+        var response = exchange(restClient.post().uri(node + INTERNAL_API + "/stop-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stopOrder), StopOrderResponseDto.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new UserNotFoundException(response.error());
+        }
+        if (response.is(HttpStatus.BAD_REQUEST)) {
+            throw new AssetNotRecognizedException(response.error());
+        }
+        return response.body(node);
+    }
+
+    public void cancelStopOrder(String node, Long stopOrderId) throws OrderNotFoundException, OrderCancellationException {
+        var response = exchange(restClient.delete().uri(node + INTERNAL_API + "/stop-orders/{id}", stopOrderId), Void.class);
+        if (response.is(HttpStatus.NOT_FOUND)) {
+            throw new OrderNotFoundException(response.error());
+        }
+        if (response.is(HttpStatus.BAD_REQUEST)) {
+            throw new OrderCancellationException(response.error());
+        }
+        response.body(node);
+    }
+
+    public CompletableFuture<OrderSliceDto> searchOrders(String node, Long userId, OrderStatus status, Pageable pageable) {
+        var uri = UriComponentsBuilder.fromHttpUrl(node + INTERNAL_API + "/orders")
+                .queryParam("userId", userId)
+                .queryParam("page", pageable.getPageNumber())
+                .queryParam("size", pageable.getPageSize());
+        if (status != null) {
+            uri.queryParam("status", status);
+        }
+        pageable.getSort().forEach(order -> uri.queryParam("sort", order.getProperty() + "," + order.getDirection()));
+        return CompletableFuture.supplyAsync(
+                () -> exchange(restClient.get().uri(uri.build().toUri()), OrderSliceDto.class).body(node), fanOutExecutor);
+    }
+
+    public CompletableFuture<UserStatsResponseDto> getUserStats(String node, Long userId) {
+        return CompletableFuture.supplyAsync(() -> exchange(restClient.get().uri(node + INTERNAL_API + "/users/{id}/stats", userId),
+                UserStatsResponseDto.class).body(node), fanOutExecutor);
+    }
+
+    public CompletableFuture<Long> countOrders(String node, Long userId, OrderStatus status) {
+        var uri = UriComponentsBuilder.fromHttpUrl(node + INTERNAL_API + "/users/{id}/orders/count");
+        if (status != null) {
+            uri.queryParam("status", status);
+        }
+        return CompletableFuture.supplyAsync(
+                () -> exchange(restClient.get().uri(uri.buildAndExpand(userId).toUri()), Long.class).body(node), fanOutExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    private <T> ShardResponse<T> exchange(RestClient.RequestHeadersSpec<?> request, Class<T> type) {
+        return request.exchange((clientRequest, clientResponse) -> {
+            if (clientResponse.getStatusCode().is2xxSuccessful()) {
+                return new ShardResponse<>(clientResponse.getStatusCode(), type == Void.class ? null : clientResponse.bodyTo(type), null);
+            }
+            var error = clientResponse.bodyTo(ErrorResponseDto.class);
+            return new ShardResponse<>(clientResponse.getStatusCode(), null, error != null ? error.message() : null);
+        });
+    }
+
+    private record ShardResponse<T>(HttpStatusCode status, T payload, String error) {
+        boolean is(HttpStatus expected) {
+            return status.value() == expected.value();
+        }
+
+        T body(String node) {
+            if (!status.is2xxSuccessful()) {
+                throw new IllegalStateException("Node " + node + " responded with " + status.value() + ": " + error);
+            }
+            return payload;
+        }
+    }
+}
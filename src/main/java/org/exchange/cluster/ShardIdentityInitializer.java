@@ -0,0 +1,37 @@
+package org.exchange.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Makes order and stop order ids generated by this node congruent to node index modulo cluster size,
+ * so that any node can route an order or stop order request by its id alone.
+ * Runs once every singleton, the schema included, is created and before the web server is started,
+ * so no order can be inserted with an id of another node.
+ */
+@Slf4j
+public class ShardIdentityInitializer implements SmartInitializingSingleton {
+    private static final List<String> TABLES = List.of("Orders", "stop_orders");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    public ShardIdentityInitializer(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long nodeCount = shardRouter.nodeCount();
+        for (var table : TABLES) {
+            var maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            long start = maxId + 1 + Math.floorMod(shardRouter.nodeIndex() - maxId, nodeCount);
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + start + " set increment by " + nodeCount);
+            log.info("Node {} of {} generates ids of {} starting from {}", shardRouter.nodeIndex(), nodeCount, table, start);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.exchange.cluster;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Decides which node owns an asset or an order.
+ * Assets are placed with consistent hashing of their short name. Order and stop order ids are generated
+ * so that id modulo cluster size gives the node which created the order.
+ */
+public class ShardRouter {
+    private final List<String> nodes;
+    private final int nodeIndex;
+    private final ConsistentHashRing assetRing;
+
+    public ShardRouter(ClusterProperties properties) {
+        this.nodes = List.copyOf(properties.getNodes());
+        this.nodeIndex = properties.getNodeIndex();
+        if (nodeIndex < 0 || nodeIndex >= nodes.size()) {
+            throw new IllegalArgumentException("Node index " + nodeIndex + " is out of cluster nodes range");
+        }
+        this.assetRing = new ConsistentHashRing(nodes, properties.getVirtualNodes());
+    }
+
+    public int ownerOfAsset(String assetShortName) {
+        return assetRing.nodeFor(assetShortName);
+    }
+
+    public int ownerOfOrder(long orderId) {
+        return (int) Math.floorMod(orderId - 1, (long) nodes.size());
+    }
+
+    public boolean isLocal(int node) {
+        return node == nodeIndex;
+    }
+
+    public String nodeUrl(int node) {
+        return nodes.get(node);
+    }
+
+    public List<String> remoteNodeUrls() {
+        return IntStream.range(0, nodes.size())
+                .filter(node -> node != nodeIndex)
+                .mapToObj(nodes::get)
+                .toList();
+    }
+
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    public int nodeIndex() {
+        return nodeIndex;
+    }
+}
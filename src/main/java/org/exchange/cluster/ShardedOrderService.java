@@ -0,0 +1,141 @@
+package org.exchange.cluster;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.dto.OrderSliceDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.OrderService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Order service of a sharded deployment. Commands are executed on the node owning the asset
+ * (for new orders) or the order, searches are sent to every node and merged.
+ */
+public class ShardedOrderService implements OrderService {
+    private final OrderService localOrderService;
+    private final ShardRouter shardRouter;
+    private final ShardClient shardClient;
+
+    public ShardedOrderService(OrderService localOrderService, ShardRouter shardRouter, ShardClient shardClient) {
+        this.localOrderService = localOrderService;
+        this.shardRouter = shardRouter;
+        this.shardClient = shardClient;
+    }
+
+    @Override
+    public OrderResponseDto getOrderById(Long orderId) throws OrderNotFoundException {
+        var owner = shardRouter.ownerOfOrder(orderId);
+        if (shardRouter.isLocal(owner)) {
+            return localOrderService.getOrderById(orderId);
+        }
+        return shardClient.getOrder(shardRouter.nodeUrl(owner), orderId);
+    }
+
+    @Override
+    public Slice<OrderResponseDto> searchOrders(Long userId, OrderStatus status, Pageable pageable) throws UserNotFoundException {
+        var comparator = comparatorOf(pageable.getSort());
+        //Every shard returns its first offset + size orders, the requested page is cut from the merged result
+        var offset = (int) pageable.getOffset();
+        var shardPageable = PageRequest.of(0, offset + pageable.getPageSize(), pageable.getSort());
+        var remoteSlices = shardRouter.remoteNodeUrls().stream()
+                .map(node -> shardClient.searchOrders(node, userId, status, shardPageable))
+                .toList();
+        var localSlice = localOrderService.searchOrders(userId, status, shardPageable);
+
+        var orders = new ArrayList<>(localSlice.getContent());
+        var hasNext = localSlice.hasNext();
+        for (var remoteSlice : remoteSlices) {
+            var slice = join(remoteSlice);
+            orders.addAll(slice.content());
+            hasNext |= slice.hasNext();
+        }
+        orders.sort(comparator);
+        hasNext |= orders.size() > offset + pageable.getPageSize();
+        var page = orders.subList(Math.min(offset, orders.size()), Math.min(offset + pageable.getPageSize(), orders.size()));
+        return new SliceImpl<>(new ArrayList<>(page), pageable, hasNext);
+    }
+
+    @Override
+    public OrderResponseDto createOrder(OrderRequestDto order) throws UserNotFoundException, AssetNotRecognizedException, RiskLimitExceededException {
+        var owner = shardRouter.ownerOfAsset(order.asset());
+        if (shardRouter.isLocal(owner)) {
+            return localOrderService.createOrder(order);
+        }
+        return shardClient.createOrder(shardRouter.nodeUrl(owner), order);
+    }
+
+    @Override
+    public void cancelOrder(Long orderId) throws OrderNotFoundException, OrderCancellationException {
+        var owner = shardRouter.ownerOfOrder(orderId);
+        if (shardRouter.isLocal(owner)) {
+            localOrderService.cancelOrder(orderId);
+        } else {
+            shardClient.cancelOrder(shardRouter.nodeUrl(owner), orderId);
+        }
+    }
+
+    @Override
+    public void completeOrder(Long orderId) throws OrderNotFoundException {
+        var owner = shardRouter.ownerOfOrder(orderId);
+        if (shardRouter.isLocal(owner)) {
+            localOrderService.completeOrder(orderId);
+        } else {
+            shardClient.completeOrder(shardRouter.nodeUrl(owner), orderId);
+        }
+    }
+
+    //Merged slices can be sorted only by properties of the response, other sorts are rejected before any shard is called
+    static Comparator<OrderResponseDto> comparatorOf(Sort sort) {
+        Comparator<OrderResponseDto> comparator = (left, right) -> 0;
+        for (var order : sort) {
+            var property = propertyComparator(order.getProperty());
+            if (property == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(OrderResponseDto.class), List.of());
+            }
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator.thenComparing(OrderResponseDto::id);
+    }
+
+    private static Comparator<OrderResponseDto> propertyComparator(String property) {
+        return switch (property) {
+            case "id" -> Comparator.comparing(OrderResponseDto::id);
+            case "price" -> Comparator.comparing(OrderResponseDto::price, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "fee" -> Comparator.comparing(OrderResponseDto::fee, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "type" -> Comparator.comparing(OrderResponseDto::type, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "status" -> Comparator.comparing(OrderResponseDto::status, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "timestamp" -> Comparator.comparing(OrderResponseDto::timestamp, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "expiresAt" -> Comparator.comparing(OrderResponseDto::expiresAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "asset", "asset.shortName" -> Comparator.comparing(OrderResponseDto::asset, Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> null;
+        };
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.exchange.cluster;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.service.StopOrderService;
+
+/**
+ * Stop order service of a sharded deployment. Stop orders are kept on the node owning the asset,
+ * which executes the orders of the asset and so sees every price that can trigger them.
+ * Stop order ids are generated the same way as order ids, so later requests are routed by id.
+ */
+public class ShardedStopOrderService implements StopOrderService {
+    private final StopOrderService localStopOrderService;
+    private final ShardRouter shardRouter;
+    private final ShardClient shardClient;
+
+    public ShardedStopOrderService(StopOrderService localStopOrderService, ShardRouter shardRouter, ShardClient shardClient) {
+        this.localStopOrderService = localStopOrderService;
+        this.shardRouter = shardRouter;
+        this.shardClient = shardClient;
+    }
+
+    @Override
+    public StopOrderResponseDto getStopOrderById(Long stopOrderId) throws OrderNotFoundException {
+        var owner = shardRouter.ownerOfOrder(stopOrderId);
+        if (shardRouter.isLocal(owner)) {
+            return localStopOrderService.getStopOrderById(stopOrderId);
+        }
+        return shardClient.getStopOrder(shardRouter.nodeUrl(owner), stopOrderId);
+    }
+
+    @Override
+    public StopOrderResponseDto createStopOrder(StopOrderRequestDto stopOrder) throws UserNotFoundException, AssetNotRecognizedException {
+        var owner = shardRouter.ownerOfAsset(stopOrder.asset());
+        if (shardRouter.isLocal(owner)) {
+            return localStopOrderService.createStopOrder(stopOrder);
+        }
+        return shardClient.createStopOrder(shardRouter.nodeUrl(owner), stopOrder);
+    }
+
+    @Override
+    public void cancelStopOrder(Long stopOrderId) throws OrderNotFoundException, OrderCancellationException {
+        var owner = shardRouter.ownerOfOrder(stopOrderId);
+        if (shardRouter.isLocal(owner)) {
+            localStopOrderService.cancelStopOrder(stopOrderId);
+        } else {
+            shardClient.cancelStopOrder(shardRouter.nodeUrl(owner), stopOrderId);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.exchange.cluster;
+
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.UserStatsService;
+
+import java.util.EnumMap;
+
+/**
+ * Sums order statistics of a user over all cluster nodes.
+ */
+public class ShardedUserStatsService implements UserStatsService {
+    private final UserStatsService localUserStatsService;
+    private final ShardRouter shardRouter;
+    private final ShardClient shardClient;
+
+    public ShardedUserStatsService(UserStatsService localUserStatsService, ShardRouter shardRouter, ShardClient shardClient) {
+        this.localUserStatsService = localUserStatsService;
+        this.shardRouter = shardRouter;
+        this.shardClient = shardClient;
+    }
+
+    @Override
+    public UserStatsResponseDto getUserStats(Long userId) throws UserNotFoundException {
+        var local = localUserStatsService.getUserStats(userId);
+        var remoteStats = shardRouter.remoteNodeUrls().stream()
+                .map(node -> shardClient.getUserStats(node, userId))
+                .toList();
+
+        var openOrders = local.openOrders();
+        var buyNotional = local.buyNotional();
+        var sellNotional = local.sellNotional();
+        var feesPaid = local.feesPaid();
+        var ordersByStatus = new EnumMap<OrderStatus, Long>(OrderStatus.class);
+        ordersByStatus.putAll(local.ordersByStatus());
+        for (var remote : remoteStats) {
+            var stats = ShardedOrderService.join(remote);
+            openOrders += stats.openOrders();
+            buyNotional = buyNotional.add(stats.buyNotional());
+            sellNotional = sellNotional.add(stats.sellNotional());
+            feesPaid = feesPaid.add(stats.feesPaid());
+            stats.ordersByStatus().forEach((status, count) -> ordersByStatus.merge(status, count, Long::sum));
+        }
+        return new UserStatsResponseDto(userId, openOrders, buyNotional, sellNotional, feesPaid, ordersByStatus);
+    }
+
+    @Override
+    public long countOrders(Long userId, OrderStatus status) {
+        var remoteCounts = shardRouter.remoteNodeUrls().stream()
+                .map(node -> shardClient.countOrders(node, userId, status))
+                .toList();
+        var count = localUserStatsService.countOrders(userId, status);
+        for (var remote : remoteCounts) {
+            count += ShardedOrderService.join(remote);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,42 @@
+package org.exchange.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.IntervalNotSupportedException;
+import org.exchange.model.dto.CandlesResponseDto;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.service.MarketDataService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/assets")
+public class AssetController {
+
+    private final MarketDataService marketDataService;
+
+    public AssetController(MarketDataService marketDataService) {
+        this.marketDataService = marketDataService;
+    }
+
+    @Operation(summary = "Get OHLCV candles and recent trades of asset", description = "Candles are built from completed orders, "
+            + "volume is the number of completed orders. Limit is capped by the number of candles kept for the interval")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = CandlesResponseDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "400", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{shortName}/candles")
+    public ResponseEntity<CandlesResponseDto> getCandles(@PathVariable("shortName") @Parameter(example = "BTC") String shortName,
+                                                         @RequestParam(defaultValue = "1m") @Parameter(example = "1m", description = "1s, 1m or 1h") String interval,
+                                                         @RequestParam(defaultValue = "60") int limit)
+            throws AssetNotRecognizedException, IntervalNotSupportedException {
+        return ResponseEntity.ok(marketDataService.getCandles(shortName, interval, limit));
+    }
+}
@@ -2,17 +2,24 @@ package org.exchange.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.IntervalNotSupportedException;
 import org.exchange.exception.OrderCancellationException;
 import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
 import org.exchange.exception.UserNotFoundException;
 import org.exchange.model.dto.ErrorResponseDto;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 import java.util.stream.Collectors;
 
@@ -41,6 +48,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(IntervalNotSupportedException.class)
+    public ResponseEntity<ErrorResponseDto> handleIntervalNotSupportedException(IntervalNotSupportedException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(OrderCancellationException.class)
     public ResponseEntity<ErrorResponseDto> handleCancellationException(OrderCancellationException ex) {
         log.error(ex.getMessage());
@@ -48,6 +62,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    @ExceptionHandler(RiskLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleRiskLimitExceededException(RiskLimitExceededException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    @ExceptionHandler(SettlementNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleSettlementNotFoundException(SettlementNotFoundException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(SettlementRejectedException.class)
+    public ResponseEntity<ErrorResponseDto> handleSettlementRejectedException(SettlementRejectedException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDto> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -59,6 +94,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(new ErrorResponseDto(errorMessage.toString()));
     }
 
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponseDto> handleWebExchangeBindException(WebExchangeBindException ex) {
+        var errorMessage = new StringBuilder();
+        errorMessage.append("Validation error: ");
+        errorMessage.append(ex.getAllErrors().stream().map(DefaultMessageSourceResolvable::getDefaultMessage)
+                        .collect(Collectors.joining("; ")));
+        log.error(errorMessage.toString());
+        return ResponseEntity.badRequest().body(new ErrorResponseDto(errorMessage.toString()));
+    }
+
+    //Unreadable body or request parameter in reactive profile
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponseDto> handleServerWebInputException(ServerWebInputException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    //Sort by a property orders do not have
+    @ExceptionHandler(PropertyReferenceException.class)
+    public ResponseEntity<ErrorResponseDto> handlePropertyReferenceException(PropertyReferenceException ex) {
+        log.error(ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponseDto> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
         log.error(ex.getMessage());
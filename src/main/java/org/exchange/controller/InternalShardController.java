@@ -0,0 +1,102 @@
+package org.exchange.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.dto.OrderSliceDto;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.OrderServiceImpl;
+import org.exchange.service.StopOrderServiceImpl;
+import org.exchange.service.UserStatsServiceImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Node-to-node api of a sharded deployment. Requests are always served from the local shard.
+ */
+@Hidden
+@RestController
+@RequestMapping("/internal/v1")
+@ConditionalOnProperty(prefix = "exchange.cluster", name = "enabled", havingValue = "true")
+public class InternalShardController {
+
+    private final OrderServiceImpl orderService;
+
+    private final UserStatsServiceImpl userStatsService;
+
+    private final StopOrderServiceImpl stopOrderService;
+
+    public InternalShardController(OrderServiceImpl orderService, UserStatsServiceImpl userStatsService, StopOrderServiceImpl stopOrderService) {
+        this.orderService = orderService;
+        this.userStatsService = userStatsService;
+        this.stopOrderService = stopOrderService;
+    }
+
+    @GetMapping("/orders/{id}")
+    public ResponseEntity<OrderResponseDto> getOrder(@PathVariable("id") Long orderId) throws OrderNotFoundException {
+        return ResponseEntity.ok(orderService.getOrderById(orderId));
+    }
+
+    @GetMapping("/orders")
+    public ResponseEntity<OrderSliceDto> searchOrders(@RequestParam Long userId,
+                                                      @RequestParam(required = false) OrderStatus status,
+                                                      Pageable pageable) throws UserNotFoundException {
+        var orders = orderService.searchOrders(userId, status, pageable);
+        return ResponseEntity.ok(new OrderSliceDto(orders.getContent(), orders.hasNext()));
+    }
+
+    @PostMapping("/orders")
+    public ResponseEntity<OrderResponseDto> createOrder(@Validated @RequestBody OrderRequestDto orderDto) throws UserNotFoundException, AssetNotRecognizedException, RiskLimitExceededException {
+        return ResponseEntity.ok(orderService.createOrder(orderDto));
+    }
+
+    @DeleteMapping("/orders/{id}")
+    public ResponseEntity<Void> cancelOrder(@PathVariable("id") Long orderId) throws OrderNotFoundException, OrderCancellationException {
+        orderService.cancelOrder(orderId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/orders/{id}/complete")
+    public ResponseEntity<Void> completeOrder(@PathVariable("id") Long orderId) throws OrderNotFoundException {
+        orderService.completeOrder(orderId);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/stop-orders/{id}")
+    public ResponseEntity<StopOrderResponseDto> getStopOrder(@PathVariable("id") Long stopOrderId) throws OrderNotFoundException {
+        return ResponseEntity.ok(stopOrderService.getStopOrderById(stopOrderId));
+    }
+
+    @PostMapping("/stop-orders")
+    public ResponseEntity<StopOrderResponseDto> createStopOrder(@Validated @RequestBody StopOrderRequestDto stopOrderDto) throws UserNotFoundException, AssetNotRecognizedException {
+        return ResponseEntity.ok(stopOrderService.createStopOrder(stopOrderDto));
+    }
+
+    @DeleteMapping("/stop-orders/{id}")
+    public ResponseEntity<Void> cancelStopOrder(@PathVariable("id") Long stopOrderId) throws OrderNotFoundException, OrderCancellationException {
+        stopOrderService.cancelStopOrder(stopOrderId);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/users/{id}/stats")
+    public ResponseEntity<UserStatsResponseDto> getUserStats(@PathVariable("id") Long userId) throws UserNotFoundException {
+        return ResponseEntity.ok(userStatsService.getUserStats(userId));
+    }
+
+    @GetMapping("/users/{id}/orders/count")
+    public ResponseEntity<Long> countOrders(@PathVariable("id") Long userId,
+                                            @RequestParam(required = false) OrderStatus status) {
+        return ResponseEntity.ok(userStatsService.countOrders(userId, status));
+    }
+}
@@ -8,12 +8,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.exchange.exception.AssetNotRecognizedException;
 import org.exchange.exception.OrderCancellationException;
 import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
 import org.exchange.exception.UserNotFoundException;
 import org.exchange.model.dto.ErrorResponseDto;
 import org.exchange.model.dto.OrderRequestDto;
 import org.exchange.model.dto.OrderResponseDto;
 import org.exchange.model.entity.OrderStatus;
 import org.exchange.service.OrderService;
+import org.exchange.service.UserStatsService;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -23,13 +26,20 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    static final String HAS_MORE_HEADER = "X-Has-More";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final OrderService orderService;
 
-    public OrderController(OrderService orderService) {
+    private final UserStatsService userStatsService;
+
+    public OrderController(OrderService orderService, UserStatsService userStatsService) {
         this.orderService = orderService;
+        this.userStatsService = userStatsService;
     }
 
     @Operation(summary = "Get order by Id")
@@ -41,13 +51,15 @@ public class OrderController {
         return ResponseEntity.ok(orderService.getOrderById(orderId));
     }
 
-    @Operation(summary = "Search orders")
+    @Operation(summary = "Search orders", description = "Header X-Has-More tells whether next page exists. "
+            + "Header X-Total-Count is only returned when includeTotal is set")
     @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = OrderResponseDto.class), mediaType = "application/json")})
     @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
     @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
     @GetMapping
     public ResponseEntity<List<OrderResponseDto>> searchOrders(@RequestParam @Parameter(example = "1") Long userId,
                                                                @RequestParam(required = false) @Parameter(example = "NEW") OrderStatus status,
+                                                               @RequestParam(defaultValue = "false") boolean includeTotal,
                                                                @Parameter(example = """
                                                                        {
                                                                          "page": 0,
@@ -56,16 +68,22 @@ public class OrderController {
                                                                            "timestamp,asc"
                                                                          ]
                                                                        }""") Pageable pageable) throws UserNotFoundException {
-        return ResponseEntity.ok(orderService.searchOrders(userId, status, pageable));
+        var orders = orderService.searchOrders(userId, status, pageable);
+        var response = ResponseEntity.ok().header(HAS_MORE_HEADER, String.valueOf(orders.hasNext()));
+        if (includeTotal) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(userStatsService.countOrders(userId, status)));
+        }
+        return response.body(orders.getContent());
     }
 
     @Operation(summary = "Create order")
     @ApiResponse(responseCode = "201", content = {@Content(schema = @Schema(implementation = OrderResponseDto.class))})
     @ApiResponse(responseCode = "400", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
     @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "422", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
     @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
     @PostMapping
-    public ResponseEntity<OrderResponseDto> createOrder(@Validated @RequestBody OrderRequestDto orderDto) throws UserNotFoundException, AssetNotRecognizedException {
+    public ResponseEntity<OrderResponseDto> createOrder(@Validated @RequestBody OrderRequestDto orderDto) throws UserNotFoundException, AssetNotRecognizedException, RiskLimitExceededException {
         var response = orderService.createOrder(orderDto);
         var location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
@@ -85,4 +103,15 @@ public class OrderController {
         orderService.cancelOrder(orderId);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "Complete order", description = "Marks open order as executed, completed orders feed user statistics, "
+            + "candles, stop order triggers and fee settlement")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema())})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<Void> completeOrder(@PathVariable("id") @Parameter(example = "1") Long orderId) throws OrderNotFoundException {
+        orderService.completeOrder(orderId);
+        return ResponseEntity.ok().build();
+    }
 }
@@ -0,0 +1,84 @@
+package org.exchange.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.exchange.service.SettlementService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/settlements")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    public SettlementController(SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    @Operation(summary = "Start settlement of business day", description = "Settlement runs in background, "
+            + "interrupted or failed settlement resumes from its last checkpoint, settled day is returned as it is")
+    @ApiResponse(responseCode = "202", content = {@Content(schema = @Schema(implementation = SettlementRunDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "409", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @PostMapping("/{date}")
+    public ResponseEntity<SettlementRunDto> startSettlement(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                            @Parameter(example = "2024-01-31") LocalDate businessDate) throws SettlementRejectedException {
+        return ResponseEntity.accepted().body(settlementService.startSettlement(businessDate));
+    }
+
+    @Operation(summary = "Get settlement of business day")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = SettlementRunDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{date}")
+    public ResponseEntity<SettlementRunDto> getSettlementRun(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                             @Parameter(example = "2024-01-31") LocalDate businessDate) throws SettlementNotFoundException {
+        return ResponseEntity.ok(settlementService.getSettlementRun(businessDate));
+    }
+
+    @Operation(summary = "Get settlement totals of user for business day")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = UserSettlementDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{date}/users/{userId}")
+    public ResponseEntity<UserSettlementDto> getUserSettlement(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                               @Parameter(example = "2024-01-31") LocalDate businessDate,
+                                                               @PathVariable("userId") @Parameter(example = "1") Long userId) throws SettlementNotFoundException {
+        return ResponseEntity.ok(settlementService.getUserSettlement(businessDate, userId));
+    }
+
+    @Operation(summary = "Get fee mismatches found by settlement of business day", description = "Header X-Has-More tells whether next page exists")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = FeeMismatchDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{date}/mismatches")
+    public ResponseEntity<List<FeeMismatchDto>> getFeeMismatches(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                                 @Parameter(example = "2024-01-31") LocalDate businessDate,
+                                                                 Pageable pageable) throws SettlementNotFoundException {
+        var mismatches = settlementService.getFeeMismatches(businessDate, pageable);
+        return ResponseEntity.ok()
+                .header(OrderController.HAS_MORE_HEADER, String.valueOf(mismatches.hasNext()))
+                .body(mismatches.getContent());
+    }
+}
@@ -0,0 +1,68 @@
+package org.exchange.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.service.StopOrderService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/stop-orders")
+public class StopOrderController {
+
+    private final StopOrderService stopOrderService;
+
+    public StopOrderController(StopOrderService stopOrderService) {
+        this.stopOrderService = stopOrderService;
+    }
+
+    @Operation(summary = "Get stop order by Id")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = StopOrderResponseDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{id}")
+    public ResponseEntity<StopOrderResponseDto> getStopOrder(@PathVariable("id") @Parameter(example = "1") Long stopOrderId) throws OrderNotFoundException {
+        return ResponseEntity.ok(stopOrderService.getStopOrderById(stopOrderId));
+    }
+
+    @Operation(summary = "Create stop order", description = "Order is submitted once last traded price of the asset reaches the trigger price")
+    @ApiResponse(responseCode = "201", content = {@Content(schema = @Schema(implementation = StopOrderResponseDto.class))})
+    @ApiResponse(responseCode = "400", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @PostMapping
+    public ResponseEntity<StopOrderResponseDto> createStopOrder(@Validated @RequestBody StopOrderRequestDto stopOrderDto) throws UserNotFoundException, AssetNotRecognizedException {
+        var response = stopOrderService.createStopOrder(stopOrderDto);
+        var location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.id())
+                .toUri();
+        return ResponseEntity.created(location).body(response);
+    }
+
+    @Operation(summary = "Cancel stop order")
+    @ApiResponse(responseCode = "200")
+    @ApiResponse(responseCode = "400", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelStopOrder(@PathVariable("id") @Parameter(example = "1") Long stopOrderId) throws OrderNotFoundException, OrderCancellationException {
+        stopOrderService.cancelStopOrder(stopOrderId);
+        return ResponseEntity.ok().build();
+    }
+}
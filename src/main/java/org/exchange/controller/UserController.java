@@ -0,0 +1,36 @@
+package org.exchange.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.service.UserStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserController {
+
+    private final UserStatsService userStatsService;
+
+    public UserController(UserStatsService userStatsService) {
+        this.userStatsService = userStatsService;
+    }
+
+    @Operation(summary = "Get order statistics of user")
+    @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = UserStatsResponseDto.class), mediaType = "application/json")})
+    @ApiResponse(responseCode = "404", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @ApiResponse(responseCode = "500", content = {@Content(schema = @Schema(implementation = ErrorResponseDto.class))})
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<UserStatsResponseDto> getUserStats(@PathVariable("id") @Parameter(example = "1") Long userId) throws UserNotFoundException {
+        return ResponseEntity.ok(userStatsService.getUserStats(userId));
+    }
+}
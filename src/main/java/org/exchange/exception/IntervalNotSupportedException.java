@@ -0,0 +1,11 @@
+package org.exchange.exception;
+
+public class IntervalNotSupportedException extends Exception {
+    public IntervalNotSupportedException() {
+        super();
+    }
+
+    public IntervalNotSupportedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package org.exchange.exception;
+
+public class RiskLimitExceededException extends Exception {
+    public RiskLimitExceededException() {
+        super();
+    }
+
+    public RiskLimitExceededException(String message) {
+        super(message);
+    }
+}
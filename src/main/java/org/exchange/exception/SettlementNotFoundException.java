@@ -0,0 +1,11 @@
+package org.exchange.exception;
+
+public class SettlementNotFoundException extends Exception {
+    public SettlementNotFoundException() {
+        super();
+    }
+
+    public SettlementNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package org.exchange.exception;
+
+public class SettlementRejectedException extends Exception {
+    public SettlementRejectedException() {
+        super();
+    }
+
+    public SettlementRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package org.exchange.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class JsonCodecConfiguration implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonCodecConfiguration(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    //Registered ahead of Jackson converter, which still handles every other type
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new OrderJsonHttpMessageConverter(objectMapper.getFactory()));
+    }
+}
@@ -0,0 +1,247 @@
+package org.exchange.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 buffer writing JSON values the way Jackson does with Spring Boot defaults: strings with
+ * Jackson's escaping, instants as ISO-8601 strings and decimals in {@link BigDecimal#toString()} form.
+ * Writers are reused, so apart from decimal strings nothing is allocated per value.
+ */
+final class JsonWriter {
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    //Buffers grown by exceptionally large responses are not kept
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    //Escape per ASCII character: 0 none, -1 as \\u00XX, otherwise the character following the backslash
+    private static final int[] ESCAPES = new int[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = -1;
+        }
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\r'] = 'r';
+    }
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+    //"yyyy-MM-ddT" of the last written day, instants of one day share it
+    private final byte[] datePrefix = new byte[11];
+    private long datePrefixEpochDay = Long.MIN_VALUE;
+
+    void reset() {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, size);
+    }
+
+    void writeByte(char value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    void writeRaw(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    void writeNull() {
+        writeRaw(NULL);
+    }
+
+    void writeNumber(Long value) {
+        if (value == null) {
+            writeNull();
+        } else {
+            writeNumber(value.longValue());
+        }
+    }
+
+    void writeNumber(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[size++] = '-';
+            value = -value;
+        }
+        var digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = size + digits - 1; i >= size; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        size += digits;
+    }
+
+    void writeNumber(BigDecimal value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        //BigDecimal caches its string form
+        var text = value.toString();
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[size++] = (byte) text.charAt(i);
+        }
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        //Worst case is an escaped control character taking 6 bytes
+        ensureCapacity(value.length() * 6 + 2);
+        buffer[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            var ch = value.charAt(i);
+            if (ch < 0x80) {
+                var escape = ESCAPES[ch];
+                if (escape == 0) {
+                    buffer[size++] = (byte) ch;
+                } else if (escape > 0) {
+                    buffer[size++] = '\\';
+                    buffer[size++] = (byte) escape;
+                } else {
+                    buffer[size++] = '\\';
+                    buffer[size++] = 'u';
+                    buffer[size++] = '0';
+                    buffer[size++] = '0';
+                    buffer[size++] = HEX_DIGITS[ch >> 4];
+                    buffer[size++] = HEX_DIGITS[ch & 0xF];
+                }
+            } else if (ch < 0x800) {
+                buffer[size++] = (byte) (0xC0 | (ch >> 6));
+                buffer[size++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                //Jackson's UTF-8 generator escapes characters outside of BMP as surrogate pair escapes
+                buffer[size++] = '\\';
+                buffer[size++] = 'u';
+                buffer[size++] = HEX_DIGITS[ch >> 12];
+                buffer[size++] = HEX_DIGITS[(ch >> 8) & 0xF];
+                buffer[size++] = HEX_DIGITS[(ch >> 4) & 0xF];
+                buffer[size++] = HEX_DIGITS[ch & 0xF];
+            } else {
+                buffer[size++] = (byte) (0xE0 | (ch >> 12));
+                buffer[size++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+        buffer[size++] = '"';
+    }
+
+    /**
+     * Writes the instant as {@link DateTimeFormatter#ISO_INSTANT} does, fraction of second in groups of three digits.
+     */
+    void writeInstant(Instant value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        var epochDay = Math.floorDiv(value.getEpochSecond(), SECONDS_PER_DAY);
+        if (epochDay != datePrefixEpochDay && !cacheDatePrefix(epochDay)) {
+            //Years which need a sign or more than four digits
+            writeString(DateTimeFormatter.ISO_INSTANT.format(value));
+            return;
+        }
+        ensureCapacity(32);
+        buffer[size++] = '"';
+        System.arraycopy(datePrefix, 0, buffer, size, datePrefix.length);
+        size += datePrefix.length;
+        var secondOfDay = (int) Math.floorMod(value.getEpochSecond(), SECONDS_PER_DAY);
+        writeDigits(secondOfDay / 3600, 2);
+        buffer[size++] = ':';
+        writeDigits(secondOfDay / 60 % 60, 2);
+        buffer[size++] = ':';
+        writeDigits(secondOfDay % 60, 2);
+        var nano = value.getNano();
+        if (nano != 0) {
+            buffer[size++] = '.';
+            if (nano % 1_000_000 == 0) {
+                writeDigits(nano / 1_000_000, 3);
+            } else if (nano % 1_000 == 0) {
+                writeDigits(nano / 1_000, 6);
+            } else {
+                writeDigits(nano, 9);
+            }
+        }
+        buffer[size++] = 'Z';
+        buffer[size++] = '"';
+    }
+
+    private boolean cacheDatePrefix(long epochDay) {
+        //Civil date from days since epoch, proleptic Gregorian calendar
+        var shifted = epochDay + 719_468;
+        var era = Math.floorDiv(shifted, 146_097);
+        var dayOfEra = shifted - era * 146_097;
+        var yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        var dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        var shiftedMonth = (5 * dayOfYear + 2) / 153;
+        var day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        var month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        var year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return false;
+        }
+        fillDigits(datePrefix, 0, year, 4);
+        datePrefix[4] = '-';
+        fillDigits(datePrefix, 5, month, 2);
+        datePrefix[7] = '-';
+        fillDigits(datePrefix, 8, day, 2);
+        datePrefix[10] = 'T';
+        datePrefixEpochDay = epochDay;
+        return true;
+    }
+
+    private void writeDigits(long value, int digits) {
+        fillDigits(buffer, size, value, digits);
+        size += digits;
+    }
+
+    private static void fillDigits(byte[] target, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+        }
+    }
+}
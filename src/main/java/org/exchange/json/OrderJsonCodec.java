@@ -0,0 +1,217 @@
+package org.exchange.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Hand-written JSON mapping of order DTOs. Output is byte for byte what Jackson writes for them with
+ * Spring Boot defaults, property names and enum values are written from precomputed bytes.
+ * Requests are read with Jackson's streaming parser, unknown properties are ignored.
+ */
+final class OrderJsonCodec {
+    private static final byte[] ID = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] USER_ID = ",\"userId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ASSET = ",\"asset\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRICE = ",\"price\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FEE = ",\"fee\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TYPE = ",\"type\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] STATUS = ",\"status\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP = ",\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EXPIRES_AT = ",\"expiresAt\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE = "{\"message\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[][] ORDER_TYPES = encode(OrderType.values());
+    private static final byte[][] ORDER_STATUSES = encode(OrderStatus.values());
+
+    private OrderJsonCodec() {
+    }
+
+    static void writeOrders(JsonWriter writer, List<OrderResponseDto> orders) {
+        writer.writeByte('[');
+        for (int i = 0; i < orders.size(); i++) {
+            if (i > 0) {
+                writer.writeByte(',');
+            }
+            writeOrder(writer, orders.get(i));
+        }
+        writer.writeByte(']');
+    }
+
+    static void writeOrder(JsonWriter writer, OrderResponseDto order) {
+        if (order == null) {
+            writer.writeNull();
+            return;
+        }
+        writer.writeRaw(ID);
+        writer.writeNumber(order.id());
+        writer.writeRaw(USER_ID);
+        writer.writeNumber(order.userId());
+        writer.writeRaw(ASSET);
+        writer.writeString(order.asset());
+        writer.writeRaw(PRICE);
+        writer.writeNumber(order.price());
+        writer.writeRaw(FEE);
+        writer.writeNumber(order.fee());
+        writer.writeRaw(TYPE);
+        writeEnum(writer, ORDER_TYPES, order.type());
+        writer.writeRaw(STATUS);
+        writeEnum(writer, ORDER_STATUSES, order.status());
+        writer.writeRaw(TIMESTAMP);
+        writer.writeInstant(order.timestamp());
+        writer.writeRaw(EXPIRES_AT);
+        writer.writeInstant(order.expiresAt());
+        writer.writeByte('}');
+    }
+
+    static void writeError(JsonWriter writer, ErrorResponseDto error) {
+        writer.writeRaw(MESSAGE);
+        writer.writeString(error.message());
+        writer.writeByte('}');
+    }
+
+    static OrderRequestDto readOrderRequest(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Order request should be a JSON object");
+        }
+        Long userId = null;
+        String asset = null;
+        BigDecimal price = null;
+        OrderType type = null;
+        Instant expiresAt = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "userId" -> userId = readLong(parser);
+                case "asset" -> asset = readString(parser);
+                case "price" -> price = readDecimal(parser);
+                case "type" -> type = readEnum(parser, OrderType.class);
+                case "expiresAt" -> expiresAt = readInstant(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of order request");
+        }
+        return new OrderRequestDto(userId, asset, price, type, expiresAt);
+    }
+
+    private static void writeEnum(JsonWriter writer, byte[][] encodings, Enum<?> value) {
+        if (value == null) {
+            writer.writeNull();
+        } else {
+            writer.writeRaw(encodings[value.ordinal()]);
+        }
+    }
+
+    private static byte[][] encode(Enum<?>[] values) {
+        var encodings = new byte[values.length][];
+        for (var value : values) {
+            encodings[value.ordinal()] = ("\"" + value.name() + "\"").getBytes(StandardCharsets.UTF_8);
+        }
+        return encodings;
+    }
+
+    //Scalar coercions below follow Jackson defaults: numbers may come as strings and empty strings read as null
+
+    private static String readString(JsonParser parser) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected string value");
+        }
+        return parser.getText();
+    }
+
+    private static Long readLong(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getLongValue();
+            case VALUE_STRING -> {
+                var text = parser.getText().trim();
+                try {
+                    yield text.isEmpty() ? null : Long.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(parser, "Not a valid number: " + text, e);
+                }
+            }
+            default -> throw new JsonParseException(parser, "Expected number value");
+        };
+    }
+
+    private static BigDecimal readDecimal(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> {
+                var text = parser.getText().trim();
+                try {
+                    yield text.isEmpty() ? null : new BigDecimal(text);
+                } catch (NumberFormatException e) {
+                    throw new JsonParseException(parser, "Not a valid number: " + text, e);
+                }
+            }
+            default -> throw new JsonParseException(parser, "Expected number value");
+        };
+    }
+
+    private static <E extends Enum<E>> E readEnum(JsonParser parser, Class<E> type) throws IOException {
+        var constants = type.getEnumConstants();
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_STRING -> {
+                var text = parser.getText();
+                for (var constant : constants) {
+                    if (constant.name().equals(text)) {
+                        yield constant;
+                    }
+                }
+                throw new JsonParseException(parser, "Not one of the values accepted for " + type.getSimpleName() + ": " + text);
+            }
+            case VALUE_NUMBER_INT -> {
+                var index = parser.getIntValue();
+                if (index < 0 || index >= constants.length) {
+                    throw new JsonParseException(parser, "Not a valid index of " + type.getSimpleName() + ": " + index);
+                }
+                yield constants[index];
+            }
+            default -> throw new JsonParseException(parser, "Expected " + type.getSimpleName() + " value");
+        };
+    }
+
+    private static Instant readInstant(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> Instant.ofEpochSecond(parser.getLongValue());
+            case VALUE_NUMBER_FLOAT -> {
+                var seconds = parser.getDecimalValue();
+                var wholeSeconds = seconds.longValue();
+                yield Instant.ofEpochSecond(wholeSeconds, seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue());
+            }
+            case VALUE_STRING -> {
+                var text = parser.getText().trim();
+                try {
+                    yield text.isEmpty() ? null : DateTimeFormatter.ISO_INSTANT.parse(text, Instant::from);
+                } catch (DateTimeParseException e) {
+                    throw new JsonParseException(parser, "Not a valid instant: " + text, e);
+                }
+            }
+            default -> throw new JsonParseException(parser, "Expected instant value");
+        };
+    }
+}
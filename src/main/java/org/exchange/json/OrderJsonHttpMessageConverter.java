@@ -0,0 +1,94 @@
+package org.exchange.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Message converter for order DTOs and lists of orders backed by {@link OrderJsonCodec}. Responses are
+ * written into a per-thread buffer which is reused between requests, every other type is left to Jackson.
+ */
+public class OrderJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final ThreadLocal<JsonWriter> WRITERS = ThreadLocal.withInitial(JsonWriter::new);
+
+    private final JsonFactory jsonFactory;
+
+    public OrderJsonHttpMessageConverter(JsonFactory jsonFactory) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == OrderRequestDto.class || clazz == OrderResponseDto.class || clazz == ErrorResponseDto.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == OrderRequestDto.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == OrderRequestDto.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return (clazz == OrderResponseDto.class || clazz == ErrorResponseDto.class) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null || type instanceof Class<?>) {
+            return canWrite(clazz, mediaType);
+        }
+        var resolvableType = ResolvableType.forType(type);
+        return List.class.isAssignableFrom(resolvableType.toClass())
+                && resolvableType.getGeneric(0).toClass() == OrderResponseDto.class
+                && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(OrderRequestDto.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try (var parser = jsonFactory.createParser(inputMessage.getBody())) {
+            return OrderJsonCodec.readOrderRequest(parser);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        var writer = WRITERS.get();
+        writer.reset();
+        if (value instanceof OrderResponseDto order) {
+            OrderJsonCodec.writeOrder(writer, order);
+        } else if (value instanceof ErrorResponseDto error) {
+            OrderJsonCodec.writeError(writer, error);
+        } else {
+            OrderJsonCodec.writeOrders(writer, (List<OrderResponseDto>) value);
+        }
+        outputMessage.getHeaders().setContentLength(writer.size());
+        writer.writeTo(outputMessage.getBody());
+    }
+}
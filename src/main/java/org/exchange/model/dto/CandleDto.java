@@ -0,0 +1,14 @@
+package org.exchange.model.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record CandleDto(
+        Instant openTime,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        long volume) {
+
+}
@@ -0,0 +1,11 @@
+package org.exchange.model.dto;
+
+import java.util.List;
+
+public record CandlesResponseDto(
+        String asset,
+        String interval,
+        List<CandleDto> candles,
+        List<TradeDto> trades) {
+
+}
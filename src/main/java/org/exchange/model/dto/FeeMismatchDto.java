@@ -0,0 +1,11 @@
+package org.exchange.model.dto;
+
+import java.math.BigDecimal;
+
+public record FeeMismatchDto(
+        Long orderId,
+        Long userId,
+        BigDecimal storedFee,
+        BigDecimal recomputedFee) {
+
+}
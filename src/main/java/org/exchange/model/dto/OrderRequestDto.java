@@ -3,11 +3,13 @@ package org.exchange.model.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.exchange.model.entity.OrderType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 @Schema
 public record OrderRequestDto(@NotNull(message = "UserId is mandatory")
@@ -23,6 +25,12 @@ public record OrderRequestDto(@NotNull(message = "UserId is mandatory")
                               BigDecimal price,
                               @NotNull(message = "Type is mandatory")
                               @Schema(example = "BUY")
-                              OrderType type) {
+                              OrderType type,
+                              @Future(message = "Expiration time should be in the future")
+                              @Schema(example = "2030-01-01T00:00:00Z", description = "Order is cancelled automatically at this time, good till cancelled if absent")
+                              Instant expiresAt) {
 
+    public OrderRequestDto(Long userId, String asset, BigDecimal price, OrderType type) {
+        this(userId, asset, price, type, null);
+    }
 }
@@ -14,6 +14,10 @@ public record OrderResponseDto(
         BigDecimal fee,
         OrderType type,
         OrderStatus status,
-        Instant timestamp) {
+        Instant timestamp,
+        Instant expiresAt) {
 
+    public OrderResponseDto(Long id, Long userId, String asset, BigDecimal price, BigDecimal fee, OrderType type, OrderStatus status, Instant timestamp) {
+        this(id, userId, asset, price, fee, type, status, timestamp, null);
+    }
 }
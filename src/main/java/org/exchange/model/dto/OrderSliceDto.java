@@ -0,0 +1,7 @@
+package org.exchange.model.dto;
+
+import java.util.List;
+
+public record OrderSliceDto(List<OrderResponseDto> content, boolean hasNext) {
+
+}
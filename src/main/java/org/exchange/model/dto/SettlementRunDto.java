@@ -0,0 +1,20 @@
+package org.exchange.model.dto;
+
+import org.exchange.model.entity.SettlementStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record SettlementRunDto(
+        LocalDate businessDate,
+        SettlementStatus status,
+        long orders,
+        long users,
+        long mismatches,
+        BigDecimal fees,
+        BigDecimal recomputedFees,
+        Instant startedAt,
+        Instant finishedAt) {
+
+}
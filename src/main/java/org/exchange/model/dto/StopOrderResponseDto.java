@@ -0,0 +1,19 @@
+package org.exchange.model.dto;
+
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.StopOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record StopOrderResponseDto(
+        Long id,
+        Long userId,
+        String asset,
+        BigDecimal price,
+        BigDecimal triggerPrice,
+        OrderType type,
+        StopOrderStatus status,
+        Long orderId,
+        Instant timestamp) {
+}
@@ -0,0 +1,14 @@
+package org.exchange.model.dto;
+
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record TradeDto(
+        Long orderId,
+        BigDecimal price,
+        OrderType type,
+        Instant timestamp) {
+
+}
@@ -0,0 +1,15 @@
+package org.exchange.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record UserSettlementDto(
+        LocalDate businessDate,
+        Long userId,
+        long orders,
+        BigDecimal buyNotional,
+        BigDecimal sellNotional,
+        BigDecimal fees,
+        BigDecimal recomputedFees) {
+
+}
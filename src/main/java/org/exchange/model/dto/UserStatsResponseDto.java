@@ -0,0 +1,16 @@
+package org.exchange.model.dto;
+
+import org.exchange.model.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record UserStatsResponseDto(
+        Long userId,
+        long openOrders,
+        BigDecimal buyNotional,
+        BigDecimal sellNotional,
+        BigDecimal feesPaid,
+        Map<OrderStatus, Long> ordersByStatus) {
+
+}
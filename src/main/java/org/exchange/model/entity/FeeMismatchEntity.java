@@ -0,0 +1,36 @@
+package org.exchange.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "FeeMismatches", indexes = @Index(name = "idx_fee_mismatches_business_date", columnList = "business_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeeMismatchEntity {
+    //Sequence ids let Hibernate batch the inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    private Long orderId;
+
+    private Long userId;
+
+    private BigDecimal storedFee;
+
+    private BigDecimal recomputedFee;
+}
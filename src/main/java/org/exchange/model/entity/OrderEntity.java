@@ -8,16 +8,20 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "Orders")
+@Table(name = "Orders", indexes = @Index(name = "idx_orders_completed_at", columnList = "completed_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class OrderEntity {
+    public static final int AMOUNT_SCALE = 2;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -32,11 +36,34 @@ public class OrderEntity {
     @JoinColumn(name = "asset_id", nullable = false)
     private AssetEntity asset;
 
+    @Column(precision = 38, scale = AMOUNT_SCALE)
     private BigDecimal price;
 
+    @Column(precision = 38, scale = AMOUNT_SCALE)
     private BigDecimal fee;
 
     private OrderStatus status;
 
     private Instant timestamp;
+
+    private Instant expiresAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /**
+     * Rounds amounts to column scale and truncates times to microseconds, the way the database stores them,
+     * so the saved entity published to in-memory views equals the row read back later.
+     */
+    public void roundToStoredPrecision() {
+        price = price != null ? price.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP) : null;
+        fee = fee != null ? fee.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP) : null;
+        timestamp = truncate(timestamp);
+        expiresAt = truncate(expiresAt);
+        completedAt = truncate(completedAt);
+    }
+
+    private static Instant truncate(Instant instant) {
+        return instant != null ? instant.truncatedTo(ChronoUnit.MICROS) : null;
+    }
 }
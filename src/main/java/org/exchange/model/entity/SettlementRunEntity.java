@@ -0,0 +1,50 @@
+package org.exchange.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Settlement of a business day together with its checkpoint, the last order settled, which is committed
+ * with the settlements of every chunk.
+ */
+@Entity
+@Table(name = "SettlementRuns")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementRunEntity {
+    @Id
+    @Column(name = "business_date")
+    private LocalDate businessDate;
+
+    private SettlementStatus status;
+
+    //Completion time and id of the last settled order
+    private Instant lastCompletedAt;
+
+    private Long lastOrderId;
+
+    private long orderCount;
+
+    private long userCount;
+
+    private long mismatchCount;
+
+    private BigDecimal fees;
+
+    private BigDecimal recomputedFees;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+}
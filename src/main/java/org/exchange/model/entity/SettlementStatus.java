@@ -0,0 +1,5 @@
+package org.exchange.model.entity;
+
+public enum SettlementStatus {
+    RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,45 @@
+package org.exchange.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "StopOrders")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StopOrderEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name="user_id", nullable=false)
+    private UserEntity user;
+
+    private OrderType type;
+
+    @ManyToOne
+    @JoinColumn(name = "asset_id", nullable = false)
+    private AssetEntity asset;
+
+    private BigDecimal price;
+
+    private BigDecimal triggerPrice;
+
+    private StopOrderStatus status;
+
+    //Order created when the stop has been triggered
+    private Long orderId;
+
+    private Instant timestamp;
+}
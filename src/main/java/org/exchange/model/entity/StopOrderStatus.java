@@ -0,0 +1,5 @@
+package org.exchange.model.entity;
+
+public enum StopOrderStatus {
+    PENDING, TRIGGERED, CANCELLED
+}
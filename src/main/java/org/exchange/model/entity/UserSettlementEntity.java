@@ -0,0 +1,41 @@
+package org.exchange.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "UserSettlements", uniqueConstraints = @UniqueConstraint(columnNames = {"business_date", "user_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSettlementEntity {
+    //Sequence ids let Hibernate batch the inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private long orderCount;
+
+    private BigDecimal buyNotional;
+
+    private BigDecimal sellNotional;
+
+    private BigDecimal fees;
+
+    private BigDecimal recomputedFees;
+}
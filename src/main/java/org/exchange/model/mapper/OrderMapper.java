@@ -9,6 +9,6 @@ public class OrderMapper {
     }
 
     public static OrderResponseDto mapOrderEntityToResponseDto(OrderEntity orderEntity) {
-        return new OrderResponseDto(orderEntity.getId(), orderEntity.getUser().getId(), orderEntity.getAsset().getShortName(), orderEntity.getPrice(), orderEntity.getFee(), orderEntity.getType(), orderEntity.getStatus(), orderEntity.getTimestamp());
+        return new OrderResponseDto(orderEntity.getId(), orderEntity.getUser().getId(), orderEntity.getAsset().getShortName(), orderEntity.getPrice(), orderEntity.getFee(), orderEntity.getType(), orderEntity.getStatus(), orderEntity.getTimestamp(), orderEntity.getExpiresAt());
     }
 }
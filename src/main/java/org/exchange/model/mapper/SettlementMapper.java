@@ -0,0 +1,28 @@
+package org.exchange.model.mapper;
+
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.exchange.model.entity.FeeMismatchEntity;
+import org.exchange.model.entity.SettlementRunEntity;
+import org.exchange.model.entity.UserSettlementEntity;
+
+public class SettlementMapper {
+
+    private SettlementMapper() {
+    }
+
+    public static SettlementRunDto mapSettlementRunEntityToDto(SettlementRunEntity run) {
+        return new SettlementRunDto(run.getBusinessDate(), run.getStatus(), run.getOrderCount(), run.getUserCount(), run.getMismatchCount(),
+                run.getFees(), run.getRecomputedFees(), run.getStartedAt(), run.getFinishedAt());
+    }
+
+    public static UserSettlementDto mapUserSettlementEntityToDto(UserSettlementEntity settlement) {
+        return new UserSettlementDto(settlement.getBusinessDate(), settlement.getUserId(), settlement.getOrderCount(),
+                settlement.getBuyNotional(), settlement.getSellNotional(), settlement.getFees(), settlement.getRecomputedFees());
+    }
+
+    public static FeeMismatchDto mapFeeMismatchEntityToDto(FeeMismatchEntity mismatch) {
+        return new FeeMismatchDto(mismatch.getOrderId(), mismatch.getUserId(), mismatch.getStoredFee(), mismatch.getRecomputedFee());
+    }
+}
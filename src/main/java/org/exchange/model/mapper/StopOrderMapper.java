@@ -0,0 +1,15 @@
+package org.exchange.model.mapper;
+
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.entity.StopOrderEntity;
+
+public class StopOrderMapper {
+
+    private StopOrderMapper() {
+    }
+
+    public static StopOrderResponseDto mapStopOrderEntityToResponseDto(StopOrderEntity stopOrderEntity) {
+        return new StopOrderResponseDto(stopOrderEntity.getId(), stopOrderEntity.getUser().getId(), stopOrderEntity.getAsset().getShortName(), stopOrderEntity.getPrice(),
+                stopOrderEntity.getTriggerPrice(), stopOrderEntity.getType(), stopOrderEntity.getStatus(), stopOrderEntity.getOrderId(), stopOrderEntity.getTimestamp());
+    }
+}
@@ -0,0 +1,20 @@
+package org.exchange.reactive;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs calls of the blocking JPA services off the event loop, for endpoints which have no R2DBC implementation.
+ * Exceptions thrown by the call are signalled as errors, so they reach the same exception handlers.
+ */
+final class BlockingCalls {
+
+    private BlockingCalls() {
+    }
+
+    static <T> Mono<T> call(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
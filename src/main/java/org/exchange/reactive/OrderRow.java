@@ -0,0 +1,67 @@
+package org.exchange.reactive;
+
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * R2DBC mapping of the table behind {@link OrderEntity}. Enums are kept as ordinals and
+ * instants as UTC offset date times, the way Hibernate writes them.
+ */
+@Table("orders")
+record OrderRow(@Id Long id,
+                Long userId,
+                Long assetId,
+                Integer type,
+                BigDecimal price,
+                BigDecimal fee,
+                Integer status,
+                OffsetDateTime timestamp,
+                OffsetDateTime expiresAt) {
+
+    static OrderRow of(OrderEntity order) {
+        return new OrderRow(order.getId(), order.getUser().getId(), order.getAsset().getId(), order.getType().ordinal(),
+                order.getPrice(), order.getFee(), order.getStatus().ordinal(), toOffsetDateTime(order.getTimestamp()),
+                toOffsetDateTime(order.getExpiresAt()));
+    }
+
+    //Used by Spring Data to set the generated id
+    OrderRow withId(Long id) {
+        return new OrderRow(id, userId, assetId, type, price, fee, status, timestamp, expiresAt);
+    }
+
+    boolean hasStatus(OrderStatus orderStatus) {
+        return status == orderStatus.ordinal();
+    }
+
+    OrderEntity toOrderEntity(AssetEntity asset) {
+        return OrderEntity.builder()
+                .id(id)
+                .user(UserEntity.builder().id(userId).build())
+                .asset(asset)
+                .type(OrderType.values()[type])
+                .price(price)
+                .fee(fee)
+                .status(OrderStatus.values()[status])
+                .timestamp(toInstant(timestamp))
+                .expiresAt(toInstant(expiresAt))
+                .build();
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private static Instant toInstant(OffsetDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant() : null;
+    }
+}
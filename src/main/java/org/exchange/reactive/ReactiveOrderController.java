@@ -0,0 +1,77 @@
+package org.exchange.reactive;
+
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.UserStatsService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux variant of the order endpoints, same paths, headers and error responses as the servlet controller.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/orders")
+public class ReactiveOrderController {
+
+    static final String HAS_MORE_HEADER = "X-Has-More";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final ReactiveOrderService orderService;
+
+    private final UserStatsService userStatsService;
+
+    public ReactiveOrderController(ReactiveOrderService orderService, UserStatsService userStatsService) {
+        this.orderService = orderService;
+        this.userStatsService = userStatsService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<OrderResponseDto> getOrder(@PathVariable("id") Long orderId) {
+        return orderService.getOrderById(orderId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<OrderResponseDto>>> searchOrders(@RequestParam Long userId,
+                                                                     @RequestParam(required = false) OrderStatus status,
+                                                                     @RequestParam(defaultValue = "false") boolean includeTotal,
+                                                                     Pageable pageable) {
+        return orderService.searchOrders(userId, status, pageable).map(orders -> {
+            var response = ResponseEntity.ok().header(HAS_MORE_HEADER, String.valueOf(orders.hasNext()));
+            if (includeTotal) {
+                response.header(TOTAL_COUNT_HEADER, String.valueOf(userStatsService.countOrders(userId, status)));
+            }
+            return response.body(orders.getContent());
+        });
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<OrderResponseDto>> createOrder(@Validated @RequestBody OrderRequestDto orderDto, ServerHttpRequest request) {
+        return orderService.createOrder(orderDto).map(response -> {
+            var location = UriComponentsBuilder.fromUri(request.getURI())
+                    .path("/{id}")
+                    .buildAndExpand(response.id())
+                    .toUri();
+            return ResponseEntity.created(location).body(response);
+        });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> cancelOrder(@PathVariable("id") Long orderId) {
+        return orderService.cancelOrder(orderId).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+
+    @PostMapping("/{id}/complete")
+    public Mono<ResponseEntity<Void>> completeOrder(@PathVariable("id") Long orderId) {
+        return orderService.completeOrder(orderId).thenReturn(ResponseEntity.ok().<Void>build());
+    }
+}
@@ -0,0 +1,21 @@
+package org.exchange.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+interface ReactiveOrderRepository extends R2dbcRepository<OrderRow, Long> {
+
+    @Modifying
+    @Query("update orders set status = :newStatus where id = :id and status = :expectedStatus")
+    Mono<Integer> updateStatus(@Param("id") Long id, @Param("expectedStatus") int expectedStatus, @Param("newStatus") int newStatus);
+
+    @Modifying
+    @Query("update orders set status = :newStatus, completed_at = :completedAt where id = :id and status = :expectedStatus")
+    Mono<Integer> updateStatus(@Param("id") Long id, @Param("expectedStatus") int expectedStatus, @Param("newStatus") int newStatus,
+                               @Param("completedAt") OffsetDateTime completedAt);
+}
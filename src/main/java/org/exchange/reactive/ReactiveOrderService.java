@@ -0,0 +1,26 @@
+package org.exchange.reactive;
+
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.OrderService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link OrderService}. Failures are signalled with the same exceptions
+ * the blocking service throws.
+ */
+public interface ReactiveOrderService {
+
+    Mono<OrderResponseDto> getOrderById(Long orderId);
+
+    Mono<Slice<OrderResponseDto>> searchOrders(Long userId, OrderStatus status, Pageable pageable);
+
+    Mono<OrderResponseDto> createOrder(OrderRequestDto order);
+
+    Mono<Void> cancelOrder(Long orderId);
+
+    Mono<Void> completeOrder(Long orderId);
+}
@@ -0,0 +1,204 @@
+package org.exchange.reactive;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.UserEntity;
+import org.exchange.model.mapper.OrderMapper;
+import org.exchange.service.AssetCache;
+import org.exchange.service.ExposureLedger;
+import org.exchange.service.FeeCalculator;
+import org.exchange.service.OpenOrderIndex;
+import org.exchange.service.OrderEventListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Service
+@Profile("reactive")
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveUserRepository userRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TransactionalOperator transactionalOperator;
+    private final AssetCache assetCache;
+    private final FeeCalculator feeCalculator;
+    private final OpenOrderIndex openOrderIndex;
+    private final ExposureLedger exposureLedger;
+    private final List<OrderEventListener> orderEventListeners;
+
+    public ReactiveOrderServiceImpl(ReactiveOrderRepository orderRepository, ReactiveUserRepository userRepository,
+                                    R2dbcEntityTemplate reactiveEntityTemplate, TransactionalOperator reactiveTransactionalOperator,
+                                    AssetCache assetCache, FeeCalculator feeCalculator, OpenOrderIndex openOrderIndex,
+                                    ExposureLedger exposureLedger, List<OrderEventListener> orderEventListeners) {
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+        this.entityTemplate = reactiveEntityTemplate;
+        this.transactionalOperator = reactiveTransactionalOperator;
+        this.assetCache = assetCache;
+        this.feeCalculator = feeCalculator;
+        this.openOrderIndex = openOrderIndex;
+        this.exposureLedger = exposureLedger;
+        this.orderEventListeners = orderEventListeners;
+    }
+
+    @Override
+    public Mono<OrderResponseDto> getOrderById(Long orderId) {
+        var openOrder = openOrderIndex.get(orderId);
+        if (openOrder != null) {
+            var asset = assetCache.findCachedById(openOrder.assetId());
+            if (asset.isPresent()) {
+                return Mono.just(new OrderResponseDto(openOrder.id(), openOrder.userId(), asset.get().getShortName(), openOrder.price(),
+                        openOrder.fee(), openOrder.type(), openOrder.status(), openOrder.timestamp(), openOrder.expiresAt()));
+            }
+        }
+        return orderRepository.findById(orderId)
+                .filter(order -> !order.hasStatus(OrderStatus.CANCELLED))
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order is not found")))
+                .flatMap(this::toOrderEntity)
+                .map(OrderMapper::mapOrderEntityToResponseDto);
+    }
+
+    @Override
+    public Mono<OrderResponseDto> createOrder(OrderRequestDto orderDto) {
+        return userRepository.findById(orderDto.userId())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User is not found")))
+                .flatMap(user -> findAsset(orderDto.asset())
+                        .switchIfEmpty(Mono.error(() -> new AssetNotRecognizedException("Asset does not exist")))
+                        //Reservation is released once the created order is published or creation has failed
+                        .flatMap(asset -> Mono.usingWhen(
+                                Mono.fromCallable(() -> exposureLedger.reserve(user.id(), asset.getId(), orderDto.type(), orderDto.price())),
+                                reservation -> insertOrder(orderDto, user, asset)
+                                        .as(transactionalOperator::transactional)
+                                        .doOnNext(publish(OrderEventListener::onOrderCreated)),
+                                reservation -> Mono.fromRunnable(reservation::release))))
+                .map(OrderMapper::mapOrderEntityToResponseDto);
+    }
+
+    private Mono<OrderEntity> insertOrder(OrderRequestDto orderDto, UserRow user, AssetEntity asset) {
+        var orderEntity = OrderEntity.builder().asset(asset)
+                .user(UserEntity.builder().id(user.id()).fee(user.fee()).build())
+                .status(OrderStatus.NEW)
+                .price(orderDto.price())
+                .type(orderDto.type())
+                .timestamp(Instant.now())
+                .expiresAt(orderDto.expiresAt())
+                .build();
+        orderEntity.setFee(feeCalculator.calculateFee(orderEntity));
+        orderEntity.roundToStoredPrecision();
+        return orderRepository.save(OrderRow.of(orderEntity)).map(saved -> {
+            orderEntity.setId(saved.id());
+            return orderEntity;
+        });
+    }
+
+    @Override
+    public Mono<Void> cancelOrder(Long orderId) {
+        return orderRepository.updateStatus(orderId, OrderStatus.NEW.ordinal(), OrderStatus.CANCELLED.ordinal())
+                .flatMap(updated -> orderRepository.findById(orderId)
+                        .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order is not found")))
+                        .flatMap(order -> {
+                            if (updated == 1) {
+                                return Mono.just(order);
+                            }
+                            if (order.hasStatus(OrderStatus.COMPLETED)) {
+                                return Mono.error(new OrderCancellationException("Order is already completed and can not be canceled"));
+                            }
+                            return Mono.error(new OrderNotFoundException("Order is not found"));
+                        }))
+                .flatMap(this::toOrderEntity)
+                .as(transactionalOperator::transactional)
+                .doOnNext(publish(OrderEventListener::onOrderCancelled))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> completeOrder(Long orderId) {
+        var completedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        return orderRepository.updateStatus(orderId, OrderStatus.NEW.ordinal(), OrderStatus.COMPLETED.ordinal(), completedAt.atOffset(ZoneOffset.UTC))
+                .filter(updated -> updated == 1)
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order is not found")))
+                .flatMap(updated -> orderRepository.findById(orderId))
+                .flatMap(this::toOrderEntity)
+                .doOnNext(order -> order.setCompletedAt(completedAt))
+                .as(transactionalOperator::transactional)
+                //Stop orders triggered by the completion are submitted through the blocking order service
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(publish(OrderEventListener::onOrderCompleted))
+                .then();
+    }
+
+    @Override
+    public Mono<Slice<OrderResponseDto>> searchOrders(Long userId, OrderStatus status, Pageable pageable) {
+        var criteria = Criteria.where("userId").is(userId);
+        criteria = status == null
+                ? criteria.and("status").not(OrderStatus.CANCELLED.ordinal())
+                : criteria.and("status").is(status.ordinal());
+        var query = Query.query(criteria).sort(pageable.getSort());
+        if (pageable.isPaged()) {
+            //One more row tells whether next slice exists
+            query = query.offset(pageable.getOffset()).limit(pageable.getPageSize() + 1);
+        }
+        //Found orders prove the user exists, only an empty slice needs the check
+        return entityTemplate.select(query, OrderRow.class)
+                .concatMap(this::toOrderEntity)
+                .map(OrderMapper::mapOrderEntityToResponseDto)
+                .collectList()
+                .flatMap(content -> content.isEmpty()
+                        ? userRepository.existsById(userId).flatMap(exists -> exists
+                                ? Mono.just(toSlice(content, pageable))
+                                : Mono.error(new UserNotFoundException("User doesn't exists")))
+                        : Mono.just(toSlice(content, pageable)));
+    }
+
+    private static Slice<OrderResponseDto> toSlice(List<OrderResponseDto> content, Pageable pageable) {
+        var hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private Mono<OrderEntity> toOrderEntity(OrderRow order) {
+        return findAsset(order.assetId()).map(order::toOrderEntity);
+    }
+
+    //Assets are preloaded, rare misses are loaded by the blocking cache off the event loop
+    private Mono<AssetEntity> findAsset(String shortName) {
+        return Mono.justOrEmpty(assetCache.findCachedByShortName(shortName))
+                .switchIfEmpty(Mono.fromCallable(() -> assetCache.findByShortName(shortName))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(Mono::justOrEmpty));
+    }
+
+    private Mono<AssetEntity> findAsset(Long assetId) {
+        return Mono.justOrEmpty(assetCache.findCachedById(assetId))
+                .switchIfEmpty(Mono.fromCallable(() -> assetCache.findById(assetId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(Mono::justOrEmpty));
+    }
+
+    //Transactional operator emits the result once the transaction has committed, same as listeners of the blocking service
+    private Consumer<OrderEntity> publish(BiConsumer<OrderEventListener, OrderEntity> event) {
+        return order -> orderEventListeners.forEach(listener -> event.accept(listener, order));
+    }
+}
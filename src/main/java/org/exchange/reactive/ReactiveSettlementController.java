@@ -0,0 +1,59 @@
+package org.exchange.reactive;
+
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.exchange.service.SettlementService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * WebFlux variant of the settlement endpoints. Settlement runs and their results are kept by the JPA service,
+ * so its calls run on the bounded elastic scheduler, settlement itself runs in background as in servlet mode.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/settlements")
+public class ReactiveSettlementController {
+
+    private final SettlementService settlementService;
+
+    public ReactiveSettlementController(SettlementService settlementService) {
+        this.settlementService = settlementService;
+    }
+
+    @PostMapping("/{date}")
+    public Mono<ResponseEntity<SettlementRunDto>> startSettlement(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return BlockingCalls.call(() -> ResponseEntity.accepted().body(settlementService.startSettlement(businessDate)));
+    }
+
+    @GetMapping("/{date}")
+    public Mono<SettlementRunDto> getSettlementRun(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return BlockingCalls.call(() -> settlementService.getSettlementRun(businessDate));
+    }
+
+    @GetMapping("/{date}/users/{userId}")
+    public Mono<UserSettlementDto> getUserSettlement(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+                                                     @PathVariable("userId") Long userId) {
+        return BlockingCalls.call(() -> settlementService.getUserSettlement(businessDate, userId));
+    }
+
+    @GetMapping("/{date}/mismatches")
+    public Mono<ResponseEntity<List<FeeMismatchDto>>> getFeeMismatches(@PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate,
+                                                                       Pageable pageable) {
+        return BlockingCalls.call(() -> settlementService.getFeeMismatches(businessDate, pageable)).map(mismatches -> ResponseEntity.ok()
+                .header(ReactiveOrderController.HAS_MORE_HEADER, String.valueOf(mismatches.hasNext()))
+                .body(mismatches.getContent()));
+    }
+}
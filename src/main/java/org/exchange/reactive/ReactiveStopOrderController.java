@@ -0,0 +1,53 @@
+package org.exchange.reactive;
+
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.service.StopOrderService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of the stop order endpoints. Stop orders are kept by the JPA service, which also
+ * submits triggered stops, so its calls run on the bounded elastic scheduler.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/v1/stop-orders")
+public class ReactiveStopOrderController {
+
+    private final StopOrderService stopOrderService;
+
+    public ReactiveStopOrderController(StopOrderService stopOrderService) {
+        this.stopOrderService = stopOrderService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<StopOrderResponseDto> getStopOrder(@PathVariable("id") Long stopOrderId) {
+        return BlockingCalls.call(() -> stopOrderService.getStopOrderById(stopOrderId));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<StopOrderResponseDto>> createStopOrder(@Validated @RequestBody StopOrderRequestDto stopOrderDto,
+                                                                      ServerHttpRequest request) {
+        return BlockingCalls.call(() -> stopOrderService.createStopOrder(stopOrderDto)).map(response -> {
+            var location = UriComponentsBuilder.fromUri(request.getURI())
+                    .path("/{id}")
+                    .buildAndExpand(response.id())
+                    .toUri();
+            return ResponseEntity.created(location).body(response);
+        });
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> cancelStopOrder(@PathVariable("id") Long stopOrderId) {
+        return BlockingCalls.call(() -> {
+            stopOrderService.cancelStopOrder(stopOrderId);
+            return ResponseEntity.ok().<Void>build();
+        });
+    }
+}
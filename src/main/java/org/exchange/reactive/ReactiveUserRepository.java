@@ -0,0 +1,6 @@
+package org.exchange.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+interface ReactiveUserRepository extends R2dbcRepository<UserRow, Long> {
+}
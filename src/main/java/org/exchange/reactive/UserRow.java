@@ -0,0 +1,13 @@
+package org.exchange.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * R2DBC mapping of the user columns needed for order entry.
+ */
+@Table("users")
+record UserRow(@Id Long id, BigDecimal fee) {
+}
@@ -0,0 +1,14 @@
+package org.exchange.repository;
+
+import org.exchange.model.entity.FeeMismatchEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface FeeMismatchRepository extends JpaRepository<FeeMismatchEntity, Long> {
+    Slice<FeeMismatchEntity> findByBusinessDate(LocalDate businessDate, Pageable pageable);
+}
@@ -2,14 +2,50 @@ package org.exchange.repository;
 
 import org.exchange.model.entity.OrderEntity;
 import org.exchange.model.entity.OrderStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
-    Page<OrderEntity> findByUserIdAndStatusNot(Long userId, OrderStatus status, Pageable pageable);
+    Slice<OrderEntity> findByUserIdAndStatusNot(Long userId, OrderStatus status, Pageable pageable);
+
+    Slice<OrderEntity> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable);
+
+    @Query("""
+            select o.user.id as userId, o.status as status, o.type as type,
+                   count(o) as count, sum(o.price) as notional, sum(o.fee) as fees
+            from OrderEntity o
+            group by o.user.id, o.status, o.type""")
+    List<OrderTotalsView> aggregateTotals();
+
+    Stream<OrderEntity> streamByStatus(OrderStatus status);
+
+    /**
+     * Next chunk of orders completed before given time, keyset paged by completion time and id.
+     */
+    @Query("""
+            select o from OrderEntity o join fetch o.user join fetch o.asset
+            where o.status = :status and o.completedAt < :completedBefore
+              and (o.completedAt > :afterCompletedAt or (o.completedAt = :afterCompletedAt and o.id > :afterId))
+            order by o.completedAt, o.id""")
+    List<OrderEntity> findCompletedChunk(@Param("status") OrderStatus status, @Param("afterCompletedAt") Instant afterCompletedAt,
+                                         @Param("afterId") Long afterId, @Param("completedBefore") Instant completedBefore, Pageable pageable);
+
+    @Modifying
+    @Query("update OrderEntity o set o.status = :newStatus where o.id = :id and o.status = :expectedStatus")
+    int updateStatus(@Param("id") Long id, @Param("expectedStatus") OrderStatus expectedStatus, @Param("newStatus") OrderStatus newStatus);
 
-    Page<OrderEntity> findByUserIdAndStatus(Long userId, OrderStatus status, Pageable pageable);
+    @Modifying
+    @Query("update OrderEntity o set o.status = :newStatus, o.completedAt = :completedAt where o.id = :id and o.status = :expectedStatus")
+    int updateStatus(@Param("id") Long id, @Param("expectedStatus") OrderStatus expectedStatus, @Param("newStatus") OrderStatus newStatus,
+                     @Param("completedAt") Instant completedAt);
 }
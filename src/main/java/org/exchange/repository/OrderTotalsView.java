@@ -0,0 +1,23 @@
+package org.exchange.repository;
+
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated order totals for a single user, status and type combination.
+ */
+public interface OrderTotalsView {
+    Long getUserId();
+
+    OrderStatus getStatus();
+
+    OrderType getType();
+
+    Long getCount();
+
+    BigDecimal getNotional();
+
+    BigDecimal getFees();
+}
@@ -0,0 +1,14 @@
+package org.exchange.repository;
+
+import org.exchange.model.entity.SettlementRunEntity;
+import org.exchange.model.entity.SettlementStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRunEntity, LocalDate> {
+    List<SettlementRunEntity> findByStatusNot(SettlementStatus status);
+}
@@ -0,0 +1,24 @@
+package org.exchange.repository;
+
+import org.exchange.model.entity.StopOrderEntity;
+import org.exchange.model.entity.StopOrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface StopOrderRepository extends JpaRepository<StopOrderEntity, Long> {
+    Stream<StopOrderEntity> streamByStatus(StopOrderStatus status);
+
+    @Modifying
+    @Query("update StopOrderEntity o set o.status = :newStatus where o.id = :id and o.status = :expectedStatus")
+    int updateStatus(@Param("id") Long id, @Param("expectedStatus") StopOrderStatus expectedStatus, @Param("newStatus") StopOrderStatus newStatus);
+
+    @Modifying
+    @Query("update StopOrderEntity o set o.orderId = :orderId where o.id = :id")
+    int updateOrderId(@Param("id") Long id, @Param("orderId") Long orderId);
+}
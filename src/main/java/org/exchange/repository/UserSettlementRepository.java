@@ -0,0 +1,17 @@
+package org.exchange.repository;
+
+import org.exchange.model.entity.UserSettlementEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserSettlementRepository extends JpaRepository<UserSettlementEntity, Long> {
+    List<UserSettlementEntity> findByBusinessDateAndUserIdIn(LocalDate businessDate, Collection<Long> userIds);
+
+    Optional<UserSettlementEntity> findByBusinessDateAndUserId(LocalDate businessDate, Long userId);
+}
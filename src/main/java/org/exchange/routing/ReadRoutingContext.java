@@ -0,0 +1,39 @@
+package org.exchange.routing;
+
+/**
+ * Tells the routing data source whose data the current thread is about to read, so reads of a user or an order
+ * written a moment ago go to the primary. Scopes should be opened before the first statement of the read-only
+ * transaction, the connection is chosen lazily on that statement.
+ */
+public final class ReadRoutingContext {
+    private static final ThreadLocal<Subject> SUBJECT = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static Scope forUser(Long userId) {
+        return open(new Subject(userId, null));
+    }
+
+    public static Scope forOrder(Long orderId) {
+        return open(new Subject(null, orderId));
+    }
+
+    static Subject current() {
+        return SUBJECT.get();
+    }
+
+    private static Scope open(Subject subject) {
+        var previous = SUBJECT.get();
+        SUBJECT.set(subject);
+        return previous == null ? SUBJECT::remove : () -> SUBJECT.set(previous);
+    }
+
+    record Subject(Long userId, Long orderId) {
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
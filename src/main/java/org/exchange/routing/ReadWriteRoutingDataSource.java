@@ -0,0 +1,77 @@
+package org.exchange.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Sends connections of read-only transactions to replicas in turn and everything else to the primary.
+ * Replicas marked as lagging are skipped, reads fall back to the primary when no replica is usable,
+ * and so do reads of users and orders written within the read-your-writes window.
+ * <p>
+ * The lookup happens when a connection is requested, so this data source should be wrapped into a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager
+ * asks for a connection before the read-only flag of the transaction is set.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final String[] replicaKeys;
+    private final AtomicIntegerArray replicaHealth;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final RecentWrites recentWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, RecentWrites recentWrites) {
+        this.replicaKeys = new String[replicas.size()];
+        this.replicaHealth = new AtomicIntegerArray(replicas.size());
+        this.recentWrites = recentWrites;
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys[i] = replicaKey(i);
+            targets.put(replicaKeys[i], replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    /**
+     * Replicas start unhealthy, so nothing is read from them until their lag has been checked.
+     */
+    void setReplicaHealthy(int index, boolean healthy) {
+        replicaHealth.set(index, healthy ? 1 : 0);
+    }
+
+    boolean isReplicaHealthy(int index) {
+        return replicaHealth.get(index) == 1;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicaKeys.length == 0) {
+            return PRIMARY;
+        }
+        var subject = ReadRoutingContext.current();
+        if (subject != null && recentWrites.isRecent(subject)) {
+            return PRIMARY;
+        }
+        var start = nextReplica.getAndIncrement();
+        for (int i = 0; i < replicaKeys.length; i++) {
+            var index = Math.floorMod(start + i, replicaKeys.length);
+            if (replicaHealth.get(index) == 1) {
+                return replicaKeys[index];
+            }
+        }
+        return PRIMARY;
+    }
+}
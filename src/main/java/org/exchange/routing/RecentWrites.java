@@ -0,0 +1,74 @@
+package org.exchange.routing;
+
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.service.OrderEventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Users and orders changed within the read-your-writes window. The window starts when the change is committed
+ * and is longer than the replica lag tolerated by routing, so replicas have the change once it is over.
+ */
+public class RecentWrites implements OrderEventListener {
+
+    private final Map<Long, Long> deadlinesByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Long> deadlinesByOrder = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    public RecentWrites(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    @Override
+    public void onOrderCreated(OrderEntity order) {
+        written(order);
+    }
+
+    @Override
+    public void onOrderCancelled(OrderEntity order) {
+        written(order);
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        written(order);
+    }
+
+    boolean isRecent(ReadRoutingContext.Subject subject) {
+        var now = System.nanoTime();
+        return isRecent(deadlinesByUser, subject.userId(), now) || isRecent(deadlinesByOrder, subject.orderId(), now);
+    }
+
+    @Scheduled(fixedDelayString = "${exchange.datasource.routing.lag-check-ms:500}")
+    public void purgeExpired() {
+        var now = System.nanoTime();
+        deadlinesByUser.values().removeIf(deadline -> deadline - now < 0);
+        deadlinesByOrder.values().removeIf(deadline -> deadline - now < 0);
+    }
+
+    int size() {
+        return deadlinesByUser.size() + deadlinesByOrder.size();
+    }
+
+    private void written(OrderEntity order) {
+        var deadline = System.nanoTime() + windowNanos;
+        if (order.getUser() != null && order.getUser().getId() != null) {
+            deadlinesByUser.put(order.getUser().getId(), deadline);
+        }
+        if (order.getId() != null) {
+            deadlinesByOrder.put(order.getId(), deadline);
+        }
+    }
+
+    private static boolean isRecent(Map<Long, Long> deadlines, Long id, long now) {
+        if (id == null) {
+            return false;
+        }
+        var deadline = deadlines.get(id);
+        return deadline != null && deadline - now > 0;
+    }
+}
@@ -0,0 +1,111 @@
+package org.exchange.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Measures replica lag with a heartbeat row: the current time is written to the primary and read back from
+ * every replica, the age of the value a replica returns is its lag. Replicas lagging more than allowed,
+ * or failing the check, are taken out of read routing until a later check passes.
+ * <p>
+ * Starts after every singleton is initialized, so in-memory views are rebuilt from the primary, and before
+ * the web server, so a replica which can not be set up fails the startup instead of a serving application.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+    //Web server is started in the phase following this one
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+    private final List<DataSource> replicas;
+    private final List<JdbcTemplate> replicaTemplates;
+    private final List<String> replicaInitScripts;
+    private final ResourceLoader resourceLoader;
+    private final long maxLagMs;
+
+    private volatile boolean started;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, DataSource primary, List<DataSource> replicas,
+                             List<String> replicaInitScripts, ResourceLoader resourceLoader, long maxLagMs, long lagCheckMs) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+        this.replicaTemplates = replicas.stream().map(replica -> {
+            var template = new JdbcTemplate(replica);
+            //Slow replica should not hold the check
+            template.setQueryTimeout((int) Math.max(1, lagCheckMs / 1_000));
+            return template;
+        }).toList();
+        this.replicaInitScripts = replicaInitScripts;
+        this.resourceLoader = resourceLoader;
+        this.maxLagMs = maxLagMs;
+    }
+
+    @Override
+    public void start() {
+        primary.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat BIGINT NOT NULL)");
+        if (primary.update("UPDATE replication_heartbeat SET beat = ? WHERE id = 1", System.currentTimeMillis()) == 0) {
+            primary.update("INSERT INTO replication_heartbeat (id, beat) VALUES (1, ?)", System.currentTimeMillis());
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            var initScript = replicaInitScripts.get(i);
+            if (initScript != null) {
+                new ResourceDatabasePopulator(resourceLoader.getResource(initScript)).execute(replicas.get(i));
+            }
+        }
+        started = true;
+        checkReplicas();
+    }
+
+    @Override
+    public void stop() {
+        started = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    @Scheduled(fixedDelayString = "${exchange.datasource.routing.lag-check-ms:500}")
+    public void checkReplicas() {
+        if (!started) {
+            return;
+        }
+        try {
+            primary.update("UPDATE replication_heartbeat SET beat = ? WHERE id = 1", System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("Heartbeat can not be written to primary: {}", e.getMessage());
+        }
+        for (int i = 0; i < replicaTemplates.size(); i++) {
+            var healthy = false;
+            var lag = -1L;
+            try {
+                var beat = replicaTemplates.get(i).queryForObject("SELECT beat FROM replication_heartbeat WHERE id = 1", Long.class);
+                lag = beat != null ? System.currentTimeMillis() - beat : -1;
+                healthy = beat != null && lag <= maxLagMs;
+            } catch (DataAccessException e) {
+                log.debug("Lag check of replica {} failed", i, e);
+            }
+            if (routingDataSource.isReplicaHealthy(i) != healthy) {
+                log.info("Replica {} {} read routing, lag {} ms", i, healthy ? "joins" : "leaves", lag);
+            }
+            routingDataSource.setReplicaHealthy(i, healthy);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.exchange.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with a primary pool and replica pools behind a
+ * {@link ReadWriteRoutingDataSource}. Pools and the routing data source are not beans, so the lazy proxy
+ * in front of them is the only {@link DataSource} JPA, SQL initialization and {@code JdbcTemplate} see.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "exchange.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfiguration implements DisposableBean {
+
+    private final RoutingDataSourceProperties properties;
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas = new ArrayList<>();
+    private final RecentWrites recentWrites;
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public RoutingDataSourceConfiguration(RoutingDataSourceProperties properties) {
+        this.properties = properties;
+        this.primary = pool("primary", properties.getPrimary(), false);
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            replicas.add(pool(ReadWriteRoutingDataSource.replicaKey(i), properties.getReplicas().get(i), true));
+        }
+        //Longer than any lag a replica is read with, including growth between two checks
+        this.recentWrites = new RecentWrites(properties.getMaxLagMs() + properties.getLagCheckMs());
+        this.routingDataSource = new ReadWriteRoutingDataSource(primary, List.copyOf(replicas), recentWrites);
+        this.routingDataSource.afterPropertiesSet();
+    }
+
+    @Bean
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public RecentWrites recentWrites() {
+        return recentWrites;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ResourceLoader resourceLoader) {
+        var initScripts = properties.getReplicas().stream().map(RoutingDataSourceProperties.Pool::getInitScript).toList();
+        return new ReplicaLagMonitor(routingDataSource, primary, List.copyOf(replicas), initScripts, resourceLoader,
+                properties.getMaxLagMs(), properties.getLagCheckMs());
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static HikariDataSource pool(String name, RoutingDataSourceProperties.Pool pool, boolean readOnly) {
+        var config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(pool.getUrl());
+        config.setUsername(pool.getUsername());
+        config.setPassword(pool.getPassword());
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setReadOnly(readOnly);
+        return new HikariDataSource(config);
+    }
+}
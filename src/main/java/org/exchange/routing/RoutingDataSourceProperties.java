@@ -0,0 +1,49 @@
+package org.exchange.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "exchange.datasource.routing")
+@Getter
+@Setter
+public class RoutingDataSourceProperties {
+    /**
+     * Sends read-only transactions to replicas.
+     */
+    private boolean enabled;
+
+    private Pool primary = new Pool();
+
+    private List<Pool> replicas = new ArrayList<>();
+
+    /**
+     * Replicas lagging behind the primary by more than this are not read from.
+     */
+    private long maxLagMs = 2_000;
+
+    /**
+     * Interval of heartbeat writes to the primary and lag checks of replicas.
+     */
+    private long lagCheckMs = 500;
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * Optional SQL script run against the pool on startup, once the primary schema exists.
+         */
+        private String initScript;
+    }
+}
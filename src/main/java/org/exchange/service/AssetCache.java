@@ -0,0 +1,75 @@
+package org.exchange.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.repository.AssetRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of asset reference data. Preloaded on startup, assets added later
+ * are loaded from the database on first lookup.
+ */
+@Service
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AssetCache implements ApplicationRunner {
+
+    private final Map<String, AssetEntity> assetsByShortName = new ConcurrentHashMap<>();
+    private final Map<Long, AssetEntity> assetsById = new ConcurrentHashMap<>();
+
+    private final AssetRepository assetRepository;
+
+    public AssetCache(AssetRepository assetRepository) {
+        this.assetRepository = assetRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        assetRepository.findAll().forEach(this::put);
+        log.info("Preloaded {} assets", assetsById.size());
+    }
+
+    public Optional<AssetEntity> findByShortName(String shortName) {
+        var asset = assetsByShortName.get(shortName);
+        if (asset != null) {
+            return Optional.of(asset);
+        }
+        return assetRepository.findByShortName(shortName).map(this::put);
+    }
+
+    public Optional<AssetEntity> findById(Long assetId) {
+        var asset = assetsById.get(assetId);
+        if (asset != null) {
+            return Optional.of(asset);
+        }
+        return assetRepository.findById(assetId).map(this::put);
+    }
+
+    /**
+     * Looks up loaded assets only, never touches the database.
+     */
+    public Optional<AssetEntity> findCachedByShortName(String shortName) {
+        return Optional.ofNullable(assetsByShortName.get(shortName));
+    }
+
+    /**
+     * Looks up loaded assets only, never touches the database.
+     */
+    public Optional<AssetEntity> findCachedById(Long assetId) {
+        return Optional.ofNullable(assetsById.get(assetId));
+    }
+
+    private AssetEntity put(AssetEntity asset) {
+        assetsByShortName.put(asset.getShortName(), asset);
+        assetsById.put(asset.getId(), asset);
+        return asset;
+    }
+}
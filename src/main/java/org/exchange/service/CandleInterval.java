@@ -0,0 +1,43 @@
+package org.exchange.service;
+
+import java.util.Optional;
+
+/**
+ * Candle intervals kept for every asset, with the number of candles held in the ring buffer of each.
+ */
+public enum CandleInterval {
+    ONE_SECOND("1s", 1_000L, 300),
+    ONE_MINUTE("1m", 60_000L, 1_440),
+    ONE_HOUR("1h", 3_600_000L, 720);
+
+    private final String code;
+    private final long millis;
+    private final int capacity;
+
+    CandleInterval(String code, long millis, int capacity) {
+        this.code = code;
+        this.millis = millis;
+        this.capacity = capacity;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public static Optional<CandleInterval> fromCode(String code) {
+        for (var interval : values()) {
+            if (interval.code.equals(code)) {
+                return Optional.of(interval);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,165 @@
+package org.exchange.service;
+
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderType;
+import org.exchange.util.LongIntHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Open BUY/SELL notional and number of open orders of every user per asset, used for the pre-trade limit check.
+ * <p>
+ * A new order is checked and reserved before it is persisted. The reservation is held until the creating
+ * transaction completes, committed orders are added by the creation event before that, so exposure is never
+ * under-counted while an order is in flight. Cancelled and completed orders are removed by their events and
+ * the ledger is rebuilt from restored open orders on startup. Every exposure keeps ids of the orders it holds,
+ * so an order added twice (created and restored) or removed twice is counted once.
+ * Limits which are not positive are not checked.
+ */
+@Service
+public class ExposureLedger implements OrderEventListener {
+
+    private final Map<Long, Map<Long, UserAssetExposure>> exposureByUser = new ConcurrentHashMap<>();
+
+    private final long maxOpenOrders;
+    private final BigDecimal maxOpenNotional;
+
+    public ExposureLedger(@Value("${exchange.risk.max-open-orders:1000}") long maxOpenOrders,
+                          @Value("${exchange.risk.max-open-notional:0}") BigDecimal maxOpenNotional) {
+        this.maxOpenOrders = maxOpenOrders;
+        this.maxOpenNotional = maxOpenNotional.signum() > 0 ? maxOpenNotional : null;
+    }
+
+    /**
+     * Checks the order against the limits of its user and asset and reserves its exposure.
+     * The reservation should be released once the order is persisted and published, or failed.
+     */
+    public Reservation reserve(Long userId, Long assetId, OrderType type, BigDecimal price) throws RiskLimitExceededException {
+        var exposure = exposureOf(userId, assetId);
+        exposure.reserve(type, price, maxOpenOrders, maxOpenNotional);
+        return new Reservation(exposure, type, price);
+    }
+
+    public OpenExposure getExposure(Long userId, Long assetId) {
+        var assets = exposureByUser.get(userId);
+        var exposure = assets != null ? assets.get(assetId) : null;
+        return exposure != null ? exposure.snapshot() : new OpenExposure(BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+
+    @Override
+    public void onOrderCreated(OrderEntity order) {
+        exposureOf(order).addOrder(order.getId(), order.getType(), order.getPrice());
+    }
+
+    @Override
+    public void onOrderCancelled(OrderEntity order) {
+        exposureOf(order).removeOrder(order.getId(), order.getType(), order.getPrice());
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        exposureOf(order).removeOrder(order.getId(), order.getType(), order.getPrice());
+    }
+
+    @Override
+    public void onOrderRestored(OrderEntity order) {
+        exposureOf(order).addOrder(order.getId(), order.getType(), order.getPrice());
+    }
+
+    private UserAssetExposure exposureOf(OrderEntity order) {
+        return exposureOf(order.getUser().getId(), order.getAsset().getId());
+    }
+
+    private UserAssetExposure exposureOf(Long userId, Long assetId) {
+        var assets = exposureByUser.get(userId);
+        if (assets == null) {
+            assets = exposureByUser.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+        }
+        var exposure = assets.get(assetId);
+        if (exposure == null) {
+            exposure = assets.computeIfAbsent(assetId, id -> new UserAssetExposure());
+        }
+        return exposure;
+    }
+
+    /**
+     * Exposure of an order which is being created.
+     */
+    public static final class Reservation {
+        private final UserAssetExposure exposure;
+        private final OrderType type;
+        private final BigDecimal price;
+
+        private Reservation(UserAssetExposure exposure, OrderType type, BigDecimal price) {
+            this.exposure = exposure;
+            this.type = type;
+            this.price = price;
+        }
+
+        public void release() {
+            exposure.subtract(type, price);
+        }
+    }
+
+    private static final class UserAssetExposure {
+        private static final int ABSENT = 0;
+
+        private final LongIntHashMap orderIds = new LongIntHashMap(4, ABSENT);
+        private BigDecimal buyNotional = BigDecimal.ZERO;
+        private BigDecimal sellNotional = BigDecimal.ZERO;
+        private long openOrders;
+
+        synchronized void reserve(OrderType type, BigDecimal price, long maxOpenOrders, BigDecimal maxOpenNotional) throws RiskLimitExceededException {
+            if (maxOpenOrders > 0 && openOrders >= maxOpenOrders) {
+                throw new RiskLimitExceededException("Open orders limit of asset is exceeded");
+            }
+            if (maxOpenNotional != null && notionalOf(type).add(price).compareTo(maxOpenNotional) > 0) {
+                throw new RiskLimitExceededException("Open " + type + " notional limit of asset is exceeded");
+            }
+            add(type, price);
+        }
+
+        synchronized void addOrder(long orderId, OrderType type, BigDecimal price) {
+            if (orderIds.put(orderId, 1) == ABSENT) {
+                add(type, price);
+            }
+        }
+
+        synchronized void removeOrder(long orderId, OrderType type, BigDecimal price) {
+            if (orderIds.remove(orderId) != ABSENT) {
+                subtract(type, price);
+            }
+        }
+
+        synchronized void add(OrderType type, BigDecimal price) {
+            if (type == OrderType.SELL) {
+                sellNotional = sellNotional.add(price);
+            } else {
+                buyNotional = buyNotional.add(price);
+            }
+            openOrders++;
+        }
+
+        synchronized void subtract(OrderType type, BigDecimal price) {
+            if (type == OrderType.SELL) {
+                sellNotional = sellNotional.subtract(price);
+            } else {
+                buyNotional = buyNotional.subtract(price);
+            }
+            openOrders--;
+        }
+
+        synchronized OpenExposure snapshot() {
+            return new OpenExposure(buyNotional, sellNotional, openOrders);
+        }
+
+        private BigDecimal notionalOf(OrderType type) {
+            return type == OrderType.SELL ? sellNotional : buyNotional;
+        }
+    }
+}
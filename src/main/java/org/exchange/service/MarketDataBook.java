@@ -0,0 +1,160 @@
+package org.exchange.service;
+
+import org.exchange.model.dto.CandleDto;
+import org.exchange.model.dto.TradeDto;
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Candles of every {@link CandleInterval} and the recent trade tape of every asset. Both are ring buffers
+ * of preallocated arrays, a candle slot is reused once its interval leaves the window, so recording a trade
+ * only updates array elements. Volume is the number of completed orders, orders carry no quantity.
+ */
+class MarketDataBook {
+    private final Map<Long, AssetMarketData> marketDataByAsset = new ConcurrentHashMap<>();
+    private final int tapeSize;
+
+    MarketDataBook(int tapeSize) {
+        if (tapeSize < 1) {
+            throw new IllegalArgumentException("Trade tape size should be positive");
+        }
+        this.tapeSize = tapeSize;
+    }
+
+    void record(Long assetId, long orderId, OrderType type, BigDecimal price, long timeMillis) {
+        var marketData = marketDataByAsset.get(assetId);
+        if (marketData == null) {
+            marketData = marketDataByAsset.computeIfAbsent(assetId, id -> new AssetMarketData(tapeSize));
+        }
+        marketData.record(orderId, type, price, timeMillis);
+    }
+
+    /**
+     * Up to limit last candles of the window ending at given time, oldest first.
+     */
+    List<CandleDto> candles(Long assetId, CandleInterval interval, long nowMillis, int limit) {
+        var marketData = marketDataByAsset.get(assetId);
+        return marketData != null ? marketData.candles(interval, nowMillis, limit) : List.of();
+    }
+
+    /**
+     * Recent trades of the asset, newest first.
+     */
+    List<TradeDto> trades(Long assetId) {
+        var marketData = marketDataByAsset.get(assetId);
+        return marketData != null ? marketData.trades() : List.of();
+    }
+
+    private static class AssetMarketData {
+        private final CandleSeries[] candleSeries;
+        private final long[] tradeOrderIds;
+        private final OrderType[] tradeTypes;
+        private final BigDecimal[] tradePrices;
+        private final long[] tradeTimes;
+        private int nextTrade;
+        private int trades;
+        private long lastTimeMillis = Long.MIN_VALUE;
+
+        AssetMarketData(int tapeSize) {
+            var intervals = CandleInterval.values();
+            candleSeries = new CandleSeries[intervals.length];
+            for (var interval : intervals) {
+                candleSeries[interval.ordinal()] = new CandleSeries(interval);
+            }
+            tradeOrderIds = new long[tapeSize];
+            tradeTypes = new OrderType[tapeSize];
+            tradePrices = new BigDecimal[tapeSize];
+            tradeTimes = new long[tapeSize];
+        }
+
+        synchronized void record(long orderId, OrderType type, BigDecimal price, long timeMillis) {
+            //Events of concurrent commits may come slightly out of order, keep the series monotonic
+            lastTimeMillis = Math.max(lastTimeMillis, timeMillis);
+            for (var series : candleSeries) {
+                series.add(price, lastTimeMillis);
+            }
+            tradeOrderIds[nextTrade] = orderId;
+            tradeTypes[nextTrade] = type;
+            tradePrices[nextTrade] = price;
+            tradeTimes[nextTrade] = lastTimeMillis;
+            nextTrade = (nextTrade + 1) % tradeOrderIds.length;
+            trades = Math.min(trades + 1, tradeOrderIds.length);
+        }
+
+        synchronized List<CandleDto> candles(CandleInterval interval, long nowMillis, int limit) {
+            return candleSeries[interval.ordinal()].snapshot(nowMillis, limit);
+        }
+
+        synchronized List<TradeDto> trades() {
+            var result = new ArrayList<TradeDto>(trades);
+            for (int i = 1; i <= trades; i++) {
+                var slot = Math.floorMod(nextTrade - i, tradeOrderIds.length);
+                result.add(new TradeDto(tradeOrderIds[slot], tradePrices[slot], tradeTypes[slot], Instant.ofEpochMilli(tradeTimes[slot])));
+            }
+            return result;
+        }
+    }
+
+    private static class CandleSeries {
+        private final long intervalMillis;
+        //Interval number since epoch held by every slot, slot of interval n is n % capacity
+        private final long[] intervals;
+        private final BigDecimal[] opens;
+        private final BigDecimal[] highs;
+        private final BigDecimal[] lows;
+        private final BigDecimal[] closes;
+        private final long[] volumes;
+
+        CandleSeries(CandleInterval interval) {
+            var capacity = interval.getCapacity();
+            intervalMillis = interval.getMillis();
+            intervals = new long[capacity];
+            Arrays.fill(intervals, Long.MIN_VALUE);
+            opens = new BigDecimal[capacity];
+            highs = new BigDecimal[capacity];
+            lows = new BigDecimal[capacity];
+            closes = new BigDecimal[capacity];
+            volumes = new long[capacity];
+        }
+
+        void add(BigDecimal price, long timeMillis) {
+            var interval = Math.floorDiv(timeMillis, intervalMillis);
+            var slot = Math.floorMod(interval, intervals.length);
+            if (intervals[slot] != interval) {
+                intervals[slot] = interval;
+                opens[slot] = price;
+                highs[slot] = price;
+                lows[slot] = price;
+                volumes[slot] = 0;
+            } else if (price.compareTo(highs[slot]) > 0) {
+                highs[slot] = price;
+            } else if (price.compareTo(lows[slot]) < 0) {
+                lows[slot] = price;
+            }
+            closes[slot] = price;
+            volumes[slot]++;
+        }
+
+        List<CandleDto> snapshot(long nowMillis, int limit) {
+            var newest = Math.floorDiv(nowMillis, intervalMillis);
+            var result = new ArrayList<CandleDto>(Math.min(limit, intervals.length));
+            for (long interval = newest; interval > newest - intervals.length && result.size() < limit; interval--) {
+                var slot = Math.floorMod(interval, intervals.length);
+                if (intervals[slot] == interval) {
+                    result.add(new CandleDto(Instant.ofEpochMilli(interval * intervalMillis),
+                            opens[slot], highs[slot], lows[slot], closes[slot], volumes[slot]));
+                }
+            }
+            Collections.reverse(result);
+            return result;
+        }
+    }
+}
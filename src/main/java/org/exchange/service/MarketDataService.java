@@ -0,0 +1,14 @@
+package org.exchange.service;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.IntervalNotSupportedException;
+import org.exchange.model.dto.CandlesResponseDto;
+
+public interface MarketDataService {
+
+    /**
+     * Last candles of the asset up to given limit, oldest first, and its recent trades, newest first.
+     * Intervals without completed orders have no candle.
+     */
+    CandlesResponseDto getCandles(String shortName, String interval, int limit) throws AssetNotRecognizedException, IntervalNotSupportedException;
+}
@@ -0,0 +1,43 @@
+package org.exchange.service;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.IntervalNotSupportedException;
+import org.exchange.model.dto.CandlesResponseDto;
+import org.exchange.model.entity.OrderEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Aggregates completed orders into candles and trade tape of their asset as the completion events come,
+ * so charts are served from memory without touching the database. Market data is not persisted
+ * and starts empty after restart.
+ */
+@Service
+public class MarketDataServiceImpl implements MarketDataService, OrderEventListener {
+
+    private final MarketDataBook marketDataBook;
+
+    private final AssetCache assetCache;
+
+    public MarketDataServiceImpl(AssetCache assetCache, @Value("${exchange.market-data.tape-size:100}") int tapeSize) {
+        this.assetCache = assetCache;
+        this.marketDataBook = new MarketDataBook(tapeSize);
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        marketDataBook.record(order.getAsset().getId(), order.getId(), order.getType(), order.getPrice(), System.currentTimeMillis());
+    }
+
+    @Override
+    public CandlesResponseDto getCandles(String shortName, String interval, int limit) throws AssetNotRecognizedException, IntervalNotSupportedException {
+        var candleInterval = CandleInterval.fromCode(interval)
+                .orElseThrow(() -> new IntervalNotSupportedException("Interval is not supported"));
+        var asset = assetCache.findCachedByShortName(shortName)
+                .orElseThrow(() -> new AssetNotRecognizedException("Asset does not exist"));
+        var candleLimit = Math.max(1, Math.min(limit, candleInterval.getCapacity()));
+        return new CandlesResponseDto(asset.getShortName(), candleInterval.getCode(),
+                marketDataBook.candles(asset.getId(), candleInterval, System.currentTimeMillis(), candleLimit),
+                marketDataBook.trades(asset.getId()));
+    }
+}
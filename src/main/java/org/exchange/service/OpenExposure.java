@@ -0,0 +1,9 @@
+package org.exchange.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Open orders of a user in a single asset, including orders which are being created.
+ */
+public record OpenExposure(BigDecimal buyNotional, BigDecimal sellNotional, long openOrders) {
+}
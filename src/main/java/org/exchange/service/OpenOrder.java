@@ -0,0 +1,23 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Snapshot of an open order read from {@link OpenOrderIndex}.
+ */
+public record OpenOrder(
+        long id,
+        long userId,
+        long assetId,
+        BigDecimal price,
+        BigDecimal fee,
+        OrderType type,
+        OrderStatus status,
+        Instant timestamp,
+        Instant expiresAt) {
+
+}
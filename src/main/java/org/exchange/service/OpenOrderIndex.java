@@ -0,0 +1,245 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.util.LongIntHashMap;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index of open orders stored as a struct of primitive arrays, one slot per order.
+ * Orders are found by id through a primitive hash map and are linked into per-user and per-asset
+ * lists through slot numbers, so the index holds no object references for garbage collector to scan.
+ * Orders with amounts not representable as long unscaled value are not indexed and are served from database.
+ * Expiration time is kept with microsecond precision, the same the database stores.
+ */
+@Component
+public class OpenOrderIndex implements OrderEventListener {
+    private static final int NONE = -1;
+    private static final long NO_EXPIRY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap slotsByOrderId = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+    private final LongIntHashMap firstSlotByUserId = new LongIntHashMap(INITIAL_CAPACITY, NONE);
+    private final LongIntHashMap firstSlotByAssetId = new LongIntHashMap(64, NONE);
+
+    private long[] orderIds = new long[INITIAL_CAPACITY];
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private long[] assetIds = new long[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private byte[] priceScales = new byte[INITIAL_CAPACITY];
+    private long[] fees = new long[INITIAL_CAPACITY];
+    private byte[] feeScales = new byte[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private long[] epochSeconds = new long[INITIAL_CAPACITY];
+    private int[] nanos = new int[INITIAL_CAPACITY];
+    private long[] expiresAtMicros = new long[INITIAL_CAPACITY];
+    private int[] nextByUser = new int[INITIAL_CAPACITY];
+    private int[] previousByUser = new int[INITIAL_CAPACITY];
+    private int[] nextByAsset = new int[INITIAL_CAPACITY];
+    private int[] previousByAsset = new int[INITIAL_CAPACITY];
+
+    //Free slots are chained through nextByUser
+    private int firstFreeSlot = NONE;
+    private int usedSlots;
+
+    @Override
+    public void onOrderCreated(OrderEntity order) {
+        add(order);
+    }
+
+    @Override
+    public void onOrderRestored(OrderEntity order) {
+        add(order);
+    }
+
+    @Override
+    public void onOrderCancelled(OrderEntity order) {
+        remove(order.getId());
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        remove(order.getId());
+    }
+
+    /**
+     * Adds an order to the index, returns false when the order can not be represented by the index.
+     */
+    public boolean add(OrderEntity order) {
+        if (order.getId() == null || order.getUser() == null || order.getAsset() == null || order.getType() == null
+                || order.getStatus() == null || order.getTimestamp() == null
+                || !fitsLong(order.getPrice()) || !fitsLong(order.getFee())) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (slotsByOrderId.get(order.getId()) != NONE) {
+                return true;
+            }
+            var slot = allocateSlot();
+            orderIds[slot] = order.getId();
+            userIds[slot] = order.getUser().getId();
+            assetIds[slot] = order.getAsset().getId();
+            prices[slot] = order.getPrice().unscaledValue().longValue();
+            priceScales[slot] = (byte) order.getPrice().scale();
+            fees[slot] = order.getFee().unscaledValue().longValue();
+            feeScales[slot] = (byte) order.getFee().scale();
+            types[slot] = (byte) order.getType().ordinal();
+            statuses[slot] = (byte) order.getStatus().ordinal();
+            epochSeconds[slot] = order.getTimestamp().getEpochSecond();
+            nanos[slot] = order.getTimestamp().getNano();
+            expiresAtMicros[slot] = order.getExpiresAt() != null
+                    ? ChronoUnit.MICROS.between(Instant.EPOCH, order.getExpiresAt()) : NO_EXPIRY;
+            link(slot, firstSlotByUserId, userIds[slot], nextByUser, previousByUser);
+            link(slot, firstSlotByAssetId, assetIds[slot], nextByAsset, previousByAsset);
+            slotsByOrderId.put(order.getId(), slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long orderId) {
+        lock.writeLock().lock();
+        try {
+            var slot = slotsByOrderId.remove(orderId);
+            if (slot == NONE) {
+                return false;
+            }
+            unlink(slot, firstSlotByUserId, userIds[slot], nextByUser, previousByUser);
+            unlink(slot, firstSlotByAssetId, assetIds[slot], nextByAsset, previousByAsset);
+            nextByUser[slot] = firstFreeSlot;
+            firstFreeSlot = slot;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the open order with given id, or null when it is not indexed.
+     */
+    public OpenOrder get(long orderId) {
+        lock.readLock().lock();
+        try {
+            var slot = slotsByOrderId.get(orderId);
+            if (slot == NONE) {
+                return null;
+            }
+            return new OpenOrder(orderIds[slot], userIds[slot], assetIds[slot],
+                    BigDecimal.valueOf(prices[slot], priceScales[slot]),
+                    BigDecimal.valueOf(fees[slot], feeScales[slot]),
+                    TYPES[types[slot]], STATUSES[statuses[slot]],
+                    Instant.ofEpochSecond(epochSeconds[slot], nanos[slot]),
+                    expiresAtMicros[slot] != NO_EXPIRY ? Instant.EPOCH.plus(expiresAtMicros[slot], ChronoUnit.MICROS) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] getOrderIdsByUser(long userId) {
+        return collect(firstSlotByUserId, userId, nextByUser);
+    }
+
+    public long[] getOrderIdsByAsset(long assetId) {
+        return collect(firstSlotByAssetId, assetId, nextByAsset);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByOrderId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] collect(LongIntHashMap firstSlots, long key, int[] next) {
+        lock.readLock().lock();
+        try {
+            var ids = new long[8];
+            var count = 0;
+            for (int slot = firstSlots.get(key); slot != NONE; slot = next[slot]) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count << 1);
+                }
+                ids[count++] = orderIds[slot];
+            }
+            return Arrays.copyOf(ids, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(int slot, LongIntHashMap firstSlots, long key, int[] next, int[] previous) {
+        var first = firstSlots.put(key, slot);
+        next[slot] = first;
+        previous[slot] = NONE;
+        if (first != NONE) {
+            previous[first] = slot;
+        }
+    }
+
+    private void unlink(int slot, LongIntHashMap firstSlots, long key, int[] next, int[] previous) {
+        var nextSlot = next[slot];
+        var previousSlot = previous[slot];
+        if (previousSlot != NONE) {
+            next[previousSlot] = nextSlot;
+        } else if (nextSlot != NONE) {
+            firstSlots.put(key, nextSlot);
+        } else {
+            firstSlots.remove(key);
+        }
+        if (nextSlot != NONE) {
+            previous[nextSlot] = previousSlot;
+        }
+    }
+
+    private int allocateSlot() {
+        if (firstFreeSlot != NONE) {
+            var slot = firstFreeSlot;
+            firstFreeSlot = nextByUser[slot];
+            return slot;
+        }
+        if (usedSlots == orderIds.length) {
+            grow(orderIds.length << 1);
+        }
+        return usedSlots++;
+    }
+
+    private void grow(int capacity) {
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        assetIds = Arrays.copyOf(assetIds, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        priceScales = Arrays.copyOf(priceScales, capacity);
+        fees = Arrays.copyOf(fees, capacity);
+        feeScales = Arrays.copyOf(feeScales, capacity);
+        types = Arrays.copyOf(types, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        epochSeconds = Arrays.copyOf(epochSeconds, capacity);
+        nanos = Arrays.copyOf(nanos, capacity);
+        expiresAtMicros = Arrays.copyOf(expiresAtMicros, capacity);
+        nextByUser = Arrays.copyOf(nextByUser, capacity);
+        previousByUser = Arrays.copyOf(previousByUser, capacity);
+        nextByAsset = Arrays.copyOf(nextByAsset, capacity);
+        previousByAsset = Arrays.copyOf(previousByAsset, capacity);
+    }
+
+    private static boolean fitsLong(BigDecimal value) {
+        return value != null && value.scale() >= Byte.MIN_VALUE && value.scale() <= Byte.MAX_VALUE
+                && value.unscaledValue().bitLength() < Long.SIZE;
+    }
+}
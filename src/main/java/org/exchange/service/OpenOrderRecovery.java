@@ -0,0 +1,46 @@
+package org.exchange.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.repository.OrderRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Streams open orders from the database on startup and hands them to order event listeners,
+ * so that in-memory views of open orders are rebuilt before traffic is served.
+ * Runs before the web server is started and before scheduled tasks, so no order is created, cancelled
+ * or completed while the orders are streamed and no listener sees an order restored after its live event.
+ */
+@Component
+@Slf4j
+public class OpenOrderRecovery implements SmartInitializingSingleton {
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final List<OrderEventListener> orderEventListeners;
+
+    public OpenOrderRecovery(OrderRepository orderRepository, EntityManager entityManager, List<OrderEventListener> orderEventListeners) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.orderEventListeners = orderEventListeners;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void afterSingletonsInstantiated() {
+        long restored = 0;
+        try (var orders = orderRepository.streamByStatus(OrderStatus.NEW)) {
+            for (var iterator = orders.iterator(); iterator.hasNext(); restored++) {
+                var order = iterator.next();
+                orderEventListeners.forEach(listener -> listener.onOrderRestored(order));
+                entityManager.detach(order);
+            }
+        }
+        log.info("Restored {} open orders", restored);
+    }
+}
@@ -0,0 +1,25 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderEntity;
+
+/**
+ * Receives order lifecycle events after the owning transaction has committed.
+ * Implementations keep in-memory views of the order book in sync with the database.
+ */
+public interface OrderEventListener {
+
+    default void onOrderCreated(OrderEntity order) {
+    }
+
+    default void onOrderCancelled(OrderEntity order) {
+    }
+
+    default void onOrderCompleted(OrderEntity order) {
+    }
+
+    /**
+     * Called on startup for every order which is still open in the database.
+     */
+    default void onOrderRestored(OrderEntity order) {
+    }
+}
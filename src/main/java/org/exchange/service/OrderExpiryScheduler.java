@@ -0,0 +1,117 @@
+package org.exchange.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.util.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancels good-till-time orders when their expiration time comes. Pending expirations are kept
+ * in a hierarchical timing wheel fed by order events, due orders are cancelled in batches through
+ * {@link OrderService#cancelOrder(Long)} without scanning the database.
+ */
+@Service
+@Slf4j
+public class OrderExpiryScheduler implements OrderEventListener {
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final HierarchicalTimingWheel timingWheel;
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final int batchSize;
+
+    public OrderExpiryScheduler(@Lazy OrderServiceImpl orderService, TransactionTemplate transactionTemplate,
+                                @Value("${exchange.expiry.tick-ms:100}") long tickMillis,
+                                @Value("${exchange.expiry.batch-size:500}") int batchSize) {
+        this.orderService = orderService;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tickMillis;
+        this.batchSize = batchSize;
+        this.timingWheel = new HierarchicalTimingWheel(tickMillis, WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onOrderCreated(OrderEntity order) {
+        schedule(order);
+    }
+
+    @Override
+    public void onOrderRestored(OrderEntity order) {
+        schedule(order);
+    }
+
+    @Override
+    public void onOrderCancelled(OrderEntity order) {
+        unschedule(order);
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        unschedule(order);
+    }
+
+    public int pendingExpirations() {
+        synchronized (timingWheel) {
+            return timingWheel.size();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${exchange.expiry.tick-ms:100}")
+    public void expireOrders() {
+        var now = System.currentTimeMillis();
+        List<Long> dueOrderIds = new ArrayList<>();
+        synchronized (timingWheel) {
+            timingWheel.advance(now, dueOrderIds::add);
+        }
+        for (int from = 0; from < dueOrderIds.size(); from += batchSize) {
+            var batch = dueOrderIds.subList(from, Math.min(from + batchSize, dueOrderIds.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> batch.forEach(this::expire));
+            } catch (RuntimeException e) {
+                log.error("Expiration of {} orders failed, retrying on next tick", batch.size(), e);
+                synchronized (timingWheel) {
+                    batch.forEach(orderId -> timingWheel.schedule(orderId, now + tickMillis));
+                }
+            }
+        }
+        if (!dueOrderIds.isEmpty()) {
+            log.info("Expired {} orders", dueOrderIds.size());
+        }
+    }
+
+    private void expire(Long orderId) {
+        try {
+            orderService.cancelOrder(orderId);
+        } catch (OrderNotFoundException | OrderCancellationException e) {
+            //Order has been cancelled or completed meanwhile
+            log.debug("Order {} is not open anymore: {}", orderId, e.getMessage());
+        }
+    }
+
+    private void schedule(OrderEntity order) {
+        if (order.getExpiresAt() != null) {
+            synchronized (timingWheel) {
+                timingWheel.schedule(order.getId(), order.getExpiresAt().toEpochMilli());
+            }
+        }
+    }
+
+    private void unschedule(OrderEntity order) {
+        if (order.getExpiresAt() != null) {
+            synchronized (timingWheel) {
+                timingWheel.cancel(order.getId());
+            }
+        }
+    }
+}
@@ -2,23 +2,30 @@ package org.exchange.service;
 
 import org.exchange.exception.AssetNotRecognizedException;
 import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.RiskLimitExceededException;
 import org.exchange.exception.UserNotFoundException;
 import org.exchange.exception.OrderNotFoundException;
 import org.exchange.model.dto.OrderRequestDto;
 import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.AssetEntity;
 import org.exchange.model.entity.OrderEntity;
 import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.UserEntity;
 import org.exchange.model.mapper.OrderMapper;
-import org.exchange.repository.AssetRepository;
 import org.exchange.repository.OrderRepository;
 import org.exchange.repository.UserRepository;
-import org.springframework.data.domain.Page;
+import org.exchange.routing.ReadRoutingContext;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 public class OrderServiceImpl implements OrderService {
@@ -27,43 +34,79 @@ public class OrderServiceImpl implements OrderService {
     private final UserRepository userRepository;
     private final FeeCalculator feeCalculator;
 
-    private final AssetRepository assetRepository;
+    private final AssetCache assetCache;
 
-    public OrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, AssetRepository assetRepository, FeeCalculator feeCalculator) {
+    private final OpenOrderIndex openOrderIndex;
+
+    private final ExposureLedger exposureLedger;
+
+    private final List<OrderEventListener> orderEventListeners;
+
+    public OrderServiceImpl(OrderRepository orderRepository, UserRepository userRepository, AssetCache assetCache, FeeCalculator feeCalculator,
+                            OpenOrderIndex openOrderIndex, ExposureLedger exposureLedger, List<OrderEventListener> orderEventListeners) {
         this.orderRepository = orderRepository;
         this.userRepository = userRepository;
-        this.assetRepository = assetRepository;
+        this.assetCache = assetCache;
         this.feeCalculator = feeCalculator;
+        this.openOrderIndex = openOrderIndex;
+        this.exposureLedger = exposureLedger;
+        this.orderEventListeners = orderEventListeners;
     }
 
+    //Open orders are served from the index without a transaction, repository call opens its own read-only one otherwise
     @Override
-    @Transactional(readOnly = true)
     public OrderResponseDto getOrderById(Long orderId) throws OrderNotFoundException {
-        var orderEntity = orderRepository.findById(orderId)
-                .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
-                .orElseThrow(() -> new OrderNotFoundException("Order is not found"));
-        return OrderMapper.mapOrderEntityToResponseDto(orderEntity);
+        var openOrder = openOrderIndex.get(orderId);
+        if (openOrder != null) {
+            var asset = assetCache.findById(openOrder.assetId());
+            if (asset.isPresent()) {
+                return new OrderResponseDto(openOrder.id(), openOrder.userId(), asset.get().getShortName(), openOrder.price(),
+                        openOrder.fee(), openOrder.type(), openOrder.status(), openOrder.timestamp(), openOrder.expiresAt());
+            }
+        }
+        try (var ignored = ReadRoutingContext.forOrder(orderId)) {
+            var orderEntity = orderRepository.findById(orderId)
+                    .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
+                    .orElseThrow(() -> new OrderNotFoundException("Order is not found"));
+            return OrderMapper.mapOrderEntityToResponseDto(orderEntity);
+        }
     }
 
     @Override
     @Transactional
-    public OrderResponseDto createOrder(OrderRequestDto orderDto) throws UserNotFoundException, AssetNotRecognizedException {
+    public OrderResponseDto createOrder(OrderRequestDto orderDto) throws UserNotFoundException, AssetNotRecognizedException, RiskLimitExceededException {
         var userEntity = userRepository.findById(orderDto.userId()).orElseThrow(() -> new UserNotFoundException("User is not found"));
-        var asset = assetRepository.findByShortName(orderDto.asset()).orElseThrow(() -> new AssetNotRecognizedException("Asset does not exist"));
-        OrderEntity orderEntity = OrderEntity.builder().asset(asset)
-                .user(userEntity)
-                .status(OrderStatus.NEW)
-                .price(orderDto.price())
-                .type(orderDto.type())
-                .timestamp(Instant.now())
-                .build();
-        orderEntity.setFee(feeCalculator.calculateFee(orderEntity));
-        return OrderMapper.mapOrderEntityToResponseDto(orderRepository.save(orderEntity));
+        var asset = assetCache.findByShortName(orderDto.asset()).orElseThrow(() -> new AssetNotRecognizedException("Asset does not exist"));
+        var reservation = exposureLedger.reserve(userEntity.getId(), asset.getId(), orderDto.type(), orderDto.price());
+        try {
+            OrderEntity orderEntity = OrderEntity.builder().asset(asset)
+                    .user(userEntity)
+                    .status(OrderStatus.NEW)
+                    .price(orderDto.price())
+                    .type(orderDto.type())
+                    .timestamp(Instant.now())
+                    .expiresAt(orderDto.expiresAt())
+                    .build();
+            orderEntity.setFee(feeCalculator.calculateFee(orderEntity));
+            orderEntity.roundToStoredPrecision();
+            var savedOrder = orderRepository.save(orderEntity);
+            publish(listener -> listener.onOrderCreated(savedOrder));
+            return OrderMapper.mapOrderEntityToResponseDto(savedOrder);
+        } finally {
+            afterCompletion(reservation::release);
+        }
     }
 
     @Override
     @Transactional
     public void cancelOrder(Long orderId) throws OrderNotFoundException, OrderCancellationException {
+        var openOrder = openOrderIndex.get(orderId);
+        var asset = assetOf(openOrder);
+        if (asset != null && orderRepository.updateStatus(orderId, OrderStatus.NEW, OrderStatus.CANCELLED) == 1) {
+            var cancelledOrder = toOrderEntity(openOrder, asset, OrderStatus.CANCELLED);
+            publish(listener -> listener.onOrderCancelled(cancelledOrder));
+            return;
+        }
         var orderEntity = orderRepository.findById(orderId)
                 .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
                 .orElseThrow(() -> new OrderNotFoundException("Order is not found"));
@@ -72,20 +115,92 @@ public class OrderServiceImpl implements OrderService {
         }
         orderEntity.setStatus(OrderStatus.CANCELLED);
         orderRepository.save(orderEntity);
+        publish(listener -> listener.onOrderCancelled(orderEntity));
+    }
+
+    @Override
+    @Transactional
+    public void completeOrder(Long orderId) throws OrderNotFoundException {
+        var openOrder = openOrderIndex.get(orderId);
+        var asset = assetOf(openOrder);
+        var completedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        if (asset != null && orderRepository.updateStatus(orderId, OrderStatus.NEW, OrderStatus.COMPLETED, completedAt) == 1) {
+            var completedOrder = toOrderEntity(openOrder, asset, OrderStatus.COMPLETED);
+            completedOrder.setCompletedAt(completedAt);
+            publish(listener -> listener.onOrderCompleted(completedOrder));
+            return;
+        }
+        var orderEntity = orderRepository.findById(orderId)
+                .filter(order -> order.getStatus() == OrderStatus.NEW)
+                .orElseThrow(() -> new OrderNotFoundException("Order is not found"));
+        orderEntity.setStatus(OrderStatus.COMPLETED);
+        orderEntity.setCompletedAt(completedAt);
+        orderRepository.save(orderEntity);
+        publish(listener -> listener.onOrderCompleted(orderEntity));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderResponseDto> searchOrders(Long userId, OrderStatus status, Pageable pageable) throws UserNotFoundException {
-        userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("User doesn't exists"));
-        Page<OrderEntity> userOrders;
-        if(status == null) {
-            userOrders = orderRepository.findByUserIdAndStatusNot(userId, OrderStatus.CANCELLED, pageable);
+    public Slice<OrderResponseDto> searchOrders(Long userId, OrderStatus status, Pageable pageable) throws UserNotFoundException {
+        try (var ignored = ReadRoutingContext.forUser(userId)) {
+            Slice<OrderEntity> userOrders;
+            if(status == null) {
+                userOrders = orderRepository.findByUserIdAndStatusNot(userId, OrderStatus.CANCELLED, pageable);
+            } else {
+                userOrders = orderRepository.findByUserIdAndStatus(userId, status, pageable);
+            }
+            //Found orders prove the user exists, only an empty slice needs the check
+            if (!userOrders.hasContent() && !userRepository.existsById(userId)) {
+                throw new UserNotFoundException("User doesn't exists");
+            }
+            return userOrders.map(OrderMapper::mapOrderEntityToResponseDto);
+        }
+    }
+
+    //Listeners need the asset of the order, orders of unknown assets take the repository path which loads it with the order
+    private AssetEntity assetOf(OpenOrder openOrder) {
+        return openOrder != null ? assetCache.findById(openOrder.assetId()).orElse(null) : null;
+    }
+
+    private static OrderEntity toOrderEntity(OpenOrder openOrder, AssetEntity asset, OrderStatus status) {
+        return OrderEntity.builder()
+                .id(openOrder.id())
+                .user(UserEntity.builder().id(openOrder.userId()).build())
+                .asset(asset)
+                .price(openOrder.price())
+                .fee(openOrder.fee())
+                .type(openOrder.type())
+                .status(status)
+                .timestamp(openOrder.timestamp())
+                .expiresAt(openOrder.expiresAt())
+                .build();
+    }
+
+    //Listeners are notified only once the change is committed, so in-memory views never see rolled back orders
+    private void publish(Consumer<OrderEventListener> event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    orderEventListeners.forEach(event);
+                }
+            });
+        } else {
+            orderEventListeners.forEach(event);
+        }
+    }
+
+    //Runs after commit listeners on commit as well as on rollback
+    private static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
         } else {
-            userOrders = orderRepository.findByUserIdAndStatus(userId, status, pageable);
+            action.run();
         }
-        return userOrders
-                .map(OrderMapper::mapOrderEntityToResponseDto)
-                .toList();
     }
 }
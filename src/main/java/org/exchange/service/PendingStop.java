@@ -0,0 +1,17 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.StopOrderEntity;
+
+import java.math.BigDecimal;
+
+/**
+ * Stop order waiting in the {@link TriggerBook}, with everything needed to submit its order.
+ */
+record PendingStop(long id, long userId, long assetId, BigDecimal price, BigDecimal triggerPrice, OrderType type) {
+
+    static PendingStop of(StopOrderEntity stopOrder) {
+        return new PendingStop(stopOrder.getId(), stopOrder.getUser().getId(), stopOrder.getAsset().getId(),
+                stopOrder.getPrice(), stopOrder.getTriggerPrice(), stopOrder.getType());
+    }
+}
@@ -0,0 +1,25 @@
+package org.exchange.service;
+
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+
+public interface SettlementService {
+    /**
+     * Starts settlement of a past business day(UTC) in background, or resumes it from its checkpoint.
+     * Settled day is returned as it is.
+     */
+    SettlementRunDto startSettlement(LocalDate businessDate) throws SettlementRejectedException;
+
+    SettlementRunDto getSettlementRun(LocalDate businessDate) throws SettlementNotFoundException;
+
+    UserSettlementDto getUserSettlement(LocalDate businessDate, Long userId) throws SettlementNotFoundException;
+
+    Slice<FeeMismatchDto> getFeeMismatches(LocalDate businessDate, Pageable pageable) throws SettlementNotFoundException;
+}
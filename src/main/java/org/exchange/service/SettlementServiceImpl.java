@@ -0,0 +1,306 @@
+package org.exchange.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.exchange.model.entity.FeeMismatchEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.SettlementRunEntity;
+import org.exchange.model.entity.SettlementStatus;
+import org.exchange.model.entity.UserSettlementEntity;
+import org.exchange.model.mapper.SettlementMapper;
+import org.exchange.repository.FeeMismatchRepository;
+import org.exchange.repository.OrderRepository;
+import org.exchange.repository.SettlementRunRepository;
+import org.exchange.repository.UserSettlementRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * End-of-day fee settlement. Orders completed within a business day(UTC) are read in keyset paged chunks,
+ * every chunk is partitioned by user and settled on a fork-join pool, fees are recomputed through
+ * {@link FeeCalculator} and compared to the stored ones. The next chunk is read on a separate thread while
+ * the current one is settled and written, so at most two chunks are held in memory. Per-user totals, fee mismatches
+ * and the checkpoint of the day are written in one transaction per chunk, so an interrupted settlement resumes after
+ * the last committed chunk without counting anything twice. Interrupted settlements are resumed on startup.
+ * <p>
+ * Fees are recomputed with the current fee of the user, orders placed before a fee change are reported as mismatches.
+ */
+@Service
+@Slf4j
+public class SettlementServiceImpl implements SettlementService, ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private final OrderRepository orderRepository;
+    private final SettlementRunRepository settlementRunRepository;
+    private final UserSettlementRepository userSettlementRepository;
+    private final FeeMismatchRepository feeMismatchRepository;
+    private final FeeCalculator feeCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+
+    private final Set<LocalDate> runningSettlements = ConcurrentHashMap.newKeySet();
+    private final ExecutorService settlementExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "settlement"));
+    private final ExecutorService readerExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "settlement-reader"));
+    private final ForkJoinPool settlementPool;
+
+    public SettlementServiceImpl(OrderRepository orderRepository, SettlementRunRepository settlementRunRepository,
+                                 UserSettlementRepository userSettlementRepository, FeeMismatchRepository feeMismatchRepository,
+                                 FeeCalculator feeCalculator, TransactionTemplate transactionTemplate,
+                                 @Value("${exchange.settlement.chunk-size:5000}") int chunkSize,
+                                 @Value("${exchange.settlement.parallelism:0}") int parallelism) {
+        this.orderRepository = orderRepository;
+        this.settlementRunRepository = settlementRunRepository;
+        this.userSettlementRepository = userSettlementRepository;
+        this.feeMismatchRepository = feeMismatchRepository;
+        this.feeCalculator = feeCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        //Chunks are read from a replica when read routing is enabled
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.settlementPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        for (var run : settlementRunRepository.findByStatusNot(SettlementStatus.COMPLETED)) {
+            try {
+                startSettlement(run.getBusinessDate());
+                log.info("Resuming settlement of {} after order {}", run.getBusinessDate(), run.getLastOrderId());
+            } catch (SettlementRejectedException e) {
+                log.warn("Settlement of {} is not resumed: {}", run.getBusinessDate(), e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(cron = "${exchange.settlement.cron:0 15 0 * * *}", zone = "UTC")
+    public void settlePreviousDay() {
+        try {
+            startSettlement(LocalDate.now(ZoneOffset.UTC).minusDays(1));
+        } catch (SettlementRejectedException e) {
+            log.info("Scheduled settlement is skipped: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public SettlementRunDto startSettlement(LocalDate businessDate) throws SettlementRejectedException {
+        if (!businessDate.isBefore(LocalDate.now(ZoneOffset.UTC))) {
+            throw new SettlementRejectedException("Only past days can be settled");
+        }
+        if (!runningSettlements.add(businessDate)) {
+            throw new SettlementRejectedException("Settlement of " + businessDate + " is in progress");
+        }
+        try {
+            var run = transactionTemplate.execute(status -> openRun(businessDate));
+            if (run.getStatus() != SettlementStatus.COMPLETED) {
+                settlementExecutor.execute(() -> {
+                    try {
+                        settle(run);
+                    } finally {
+                        runningSettlements.remove(businessDate);
+                    }
+                });
+            } else {
+                runningSettlements.remove(businessDate);
+            }
+            return SettlementMapper.mapSettlementRunEntityToDto(run);
+        } catch (RuntimeException e) {
+            runningSettlements.remove(businessDate);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SettlementRunDto getSettlementRun(LocalDate businessDate) throws SettlementNotFoundException {
+        return settlementRunRepository.findById(businessDate)
+                .map(SettlementMapper::mapSettlementRunEntityToDto)
+                .orElseThrow(() -> new SettlementNotFoundException("Settlement is not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSettlementDto getUserSettlement(LocalDate businessDate, Long userId) throws SettlementNotFoundException {
+        return userSettlementRepository.findByBusinessDateAndUserId(businessDate, userId)
+                .map(SettlementMapper::mapUserSettlementEntityToDto)
+                .orElseThrow(() -> new SettlementNotFoundException("Settlement of user is not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<FeeMismatchDto> getFeeMismatches(LocalDate businessDate, Pageable pageable) throws SettlementNotFoundException {
+        if (!settlementRunRepository.existsById(businessDate)) {
+            throw new SettlementNotFoundException("Settlement is not found");
+        }
+        return feeMismatchRepository.findByBusinessDate(businessDate, pageable).map(SettlementMapper::mapFeeMismatchEntityToDto);
+    }
+
+    @Override
+    public void destroy() {
+        settlementExecutor.shutdownNow();
+        readerExecutor.shutdownNow();
+        settlementPool.shutdownNow();
+    }
+
+    private SettlementRunEntity openRun(LocalDate businessDate) {
+        var run = settlementRunRepository.findById(businessDate).orElse(null);
+        if (run == null) {
+            return settlementRunRepository.save(SettlementRunEntity.builder()
+                    .businessDate(businessDate)
+                    .status(SettlementStatus.RUNNING)
+                    .lastCompletedAt(startOf(businessDate))
+                    .lastOrderId(0L)
+                    .fees(BigDecimal.ZERO)
+                    .recomputedFees(BigDecimal.ZERO)
+                    .startedAt(Instant.now())
+                    .build());
+        }
+        if (run.getStatus() == SettlementStatus.FAILED) {
+            run.setStatus(SettlementStatus.RUNNING);
+            return settlementRunRepository.save(run);
+        }
+        return run;
+    }
+
+    void settle(SettlementRunEntity run) {
+        var businessDate = run.getBusinessDate();
+        var dayEnd = startOf(businessDate.plusDays(1));
+        try {
+            var checkpoint = run;
+            var orders = readChunk(run.getLastCompletedAt(), run.getLastOrderId(), dayEnd);
+            while (!orders.isEmpty()) {
+                var lastOrder = orders.get(orders.size() - 1);
+                var nextOrders = CompletableFuture.supplyAsync(() -> readChunk(lastOrder.getCompletedAt(), lastOrder.getId(), dayEnd),
+                        readerExecutor);
+                var previous = checkpoint;
+                var chunkOrders = orders;
+                var settlements = settlementPool.invoke(SettlementTask.of(businessDate, chunkOrders, feeCalculator));
+                checkpoint = transactionTemplate.execute(status -> saveChunk(previous, chunkOrders, settlements));
+                orders = join(nextOrders);
+            }
+            checkpoint.setStatus(SettlementStatus.COMPLETED);
+            checkpoint.setFinishedAt(Instant.now());
+            var completed = checkpoint;
+            transactionTemplate.executeWithoutResult(status -> settlementRunRepository.save(completed));
+            log.info("Settled {} orders of {} users for {}, {} fee mismatches", completed.getOrderCount(), completed.getUserCount(),
+                    businessDate, completed.getMismatchCount());
+        } catch (RuntimeException e) {
+            log.error("Settlement of {} failed, it resumes from the last checkpoint when started again", businessDate, e);
+            markFailed(businessDate);
+        }
+    }
+
+    private List<OrderEntity> readChunk(Instant lastCompletedAt, Long lastOrderId, Instant dayEnd) {
+        return readOnlyTransactionTemplate.execute(status -> orderRepository.findCompletedChunk(OrderStatus.COMPLETED,
+                lastCompletedAt, lastOrderId, dayEnd, PageRequest.of(0, chunkSize)));
+    }
+
+    //Returns the checkpoint after the chunk, it is only used once committed together with the settlements of the chunk
+    private SettlementRunEntity saveChunk(SettlementRunEntity run, List<OrderEntity> orders, List<UserSettlement> settlements) {
+        var businessDate = run.getBusinessDate();
+        var userIds = settlements.stream().map(UserSettlement::userId).toList();
+        var existing = new HashMap<Long, UserSettlementEntity>();
+        for (var settlement : userSettlementRepository.findByBusinessDateAndUserIdIn(businessDate, userIds)) {
+            existing.put(settlement.getUserId(), settlement);
+        }
+        var userSettlements = new ArrayList<UserSettlementEntity>(settlements.size());
+        var mismatches = new ArrayList<FeeMismatchEntity>();
+        var newUsers = 0;
+        var fees = BigDecimal.ZERO;
+        var recomputedFees = BigDecimal.ZERO;
+        for (var settlement : settlements) {
+            var userSettlement = existing.get(settlement.userId());
+            if (userSettlement == null) {
+                userSettlement = UserSettlementEntity.builder()
+                        .businessDate(businessDate)
+                        .userId(settlement.userId())
+                        .buyNotional(BigDecimal.ZERO)
+                        .sellNotional(BigDecimal.ZERO)
+                        .fees(BigDecimal.ZERO)
+                        .recomputedFees(BigDecimal.ZERO)
+                        .build();
+                newUsers++;
+            }
+            userSettlement.setOrderCount(userSettlement.getOrderCount() + settlement.orders());
+            userSettlement.setBuyNotional(userSettlement.getBuyNotional().add(settlement.buyNotional()));
+            userSettlement.setSellNotional(userSettlement.getSellNotional().add(settlement.sellNotional()));
+            userSettlement.setFees(userSettlement.getFees().add(settlement.fees()));
+            userSettlement.setRecomputedFees(userSettlement.getRecomputedFees().add(settlement.recomputedFees()));
+            userSettlements.add(userSettlement);
+            mismatches.addAll(settlement.mismatches());
+            fees = fees.add(settlement.fees());
+            recomputedFees = recomputedFees.add(settlement.recomputedFees());
+        }
+        userSettlementRepository.saveAll(userSettlements);
+        feeMismatchRepository.saveAll(mismatches);
+        var lastOrder = orders.get(orders.size() - 1);
+        var checkpoint = SettlementRunEntity.builder()
+                .businessDate(businessDate)
+                .status(SettlementStatus.RUNNING)
+                .lastCompletedAt(lastOrder.getCompletedAt())
+                .lastOrderId(lastOrder.getId())
+                .orderCount(run.getOrderCount() + orders.size())
+                .userCount(run.getUserCount() + newUsers)
+                .mismatchCount(run.getMismatchCount() + mismatches.size())
+                .fees(run.getFees().add(fees))
+                .recomputedFees(run.getRecomputedFees().add(recomputedFees))
+                .startedAt(run.getStartedAt())
+                .build();
+        return settlementRunRepository.save(checkpoint);
+    }
+
+    private void markFailed(LocalDate businessDate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> settlementRunRepository.findById(businessDate).ifPresent(run -> {
+                run.setStatus(SettlementStatus.FAILED);
+                settlementRunRepository.save(run);
+            }));
+        } catch (RuntimeException e) {
+            log.error("Settlement of {} can not be marked as failed", businessDate, e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Instant startOf(LocalDate businessDate) {
+        return businessDate.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
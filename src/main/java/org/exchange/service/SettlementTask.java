@@ -0,0 +1,97 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.FeeMismatchEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Settles a chunk of completed orders partitioned by user: the users are split in halves until a part is
+ * small enough, every part totals and re-verifies fees of its users on its own, so no state is shared
+ * between the workers of the fork-join pool. Results keep the order in which users first appear in the chunk.
+ */
+class SettlementTask extends RecursiveTask<List<UserSettlement>> {
+    static final int USERS_PER_TASK = 64;
+
+    private final LocalDate businessDate;
+    private final List<List<OrderEntity>> ordersByUser;
+    private final FeeCalculator feeCalculator;
+    private final int from;
+    private final int to;
+
+    private SettlementTask(LocalDate businessDate, List<List<OrderEntity>> ordersByUser, FeeCalculator feeCalculator, int from, int to) {
+        this.businessDate = businessDate;
+        this.ordersByUser = ordersByUser;
+        this.feeCalculator = feeCalculator;
+        this.from = from;
+        this.to = to;
+    }
+
+    static SettlementTask of(LocalDate businessDate, List<OrderEntity> orders, FeeCalculator feeCalculator) {
+        var partitions = new LinkedHashMap<Long, List<OrderEntity>>();
+        for (var order : orders) {
+            partitions.computeIfAbsent(order.getUser().getId(), id -> new ArrayList<>()).add(order);
+        }
+        var ordersByUser = new ArrayList<>(partitions.values());
+        return new SettlementTask(businessDate, ordersByUser, feeCalculator, 0, ordersByUser.size());
+    }
+
+    @Override
+    protected List<UserSettlement> compute() {
+        if (to - from <= USERS_PER_TASK) {
+            var settlements = new ArrayList<UserSettlement>(to - from);
+            for (int i = from; i < to; i++) {
+                settlements.add(settle(ordersByUser.get(i)));
+            }
+            return settlements;
+        }
+        var middle = (from + to) >>> 1;
+        var left = new SettlementTask(businessDate, ordersByUser, feeCalculator, from, middle);
+        left.fork();
+        var right = new SettlementTask(businessDate, ordersByUser, feeCalculator, middle, to).compute();
+        var settlements = left.join();
+        settlements.addAll(right);
+        return settlements;
+    }
+
+    private UserSettlement settle(List<OrderEntity> orders) {
+        var userId = orders.get(0).getUser().getId();
+        var buyNotional = BigDecimal.ZERO;
+        var sellNotional = BigDecimal.ZERO;
+        var fees = BigDecimal.ZERO;
+        var recomputedFees = BigDecimal.ZERO;
+        List<FeeMismatchEntity> mismatches = new ArrayList<>();
+        for (var order : orders) {
+            if (order.getType() == OrderType.SELL) {
+                sellNotional = sellNotional.add(order.getPrice());
+            } else {
+                buyNotional = buyNotional.add(order.getPrice());
+            }
+            var storedFee = order.getFee();
+            var recomputedFee = feeCalculator.calculateFee(order);
+            //Stored fee is rounded to the scale of its column
+            if (storedFee != null) {
+                recomputedFee = recomputedFee.setScale(Math.max(storedFee.scale(), 0), RoundingMode.HALF_UP);
+                fees = fees.add(storedFee);
+            }
+            recomputedFees = recomputedFees.add(recomputedFee);
+            if (storedFee == null || storedFee.compareTo(recomputedFee) != 0) {
+                mismatches.add(FeeMismatchEntity.builder()
+                        .businessDate(businessDate)
+                        .orderId(order.getId())
+                        .userId(userId)
+                        .storedFee(storedFee)
+                        .recomputedFee(recomputedFee)
+                        .build());
+            }
+        }
+        return new UserSettlement(userId, orders.size(), buyNotional, sellNotional, fees, recomputedFees, mismatches);
+    }
+}
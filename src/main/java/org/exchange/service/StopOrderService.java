@@ -0,0 +1,17 @@
+package org.exchange.service;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+
+public interface StopOrderService {
+
+    StopOrderResponseDto getStopOrderById(Long stopOrderId) throws OrderNotFoundException;
+
+    StopOrderResponseDto createStopOrder(StopOrderRequestDto stopOrder) throws UserNotFoundException, AssetNotRecognizedException;
+
+    void cancelStopOrder(Long stopOrderId) throws OrderNotFoundException, OrderCancellationException;
+}
@@ -0,0 +1,163 @@
+package org.exchange.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.StopOrderEntity;
+import org.exchange.model.entity.StopOrderStatus;
+import org.exchange.model.mapper.StopOrderMapper;
+import org.exchange.repository.StopOrderRepository;
+import org.exchange.repository.UserRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Keeps pending stop orders in a {@link TriggerBook} and treats every completed order as the last
+ * traded price of its asset. Stops triggered by a price are submitted through
+ * {@link OrderService#createOrder(OrderRequestDto)} together in one new transaction.
+ * Pending stops are restored before the web server is started and before scheduled tasks,
+ * so no completed order is missed by the trigger book.
+ */
+@Service
+@Slf4j
+public class StopOrderServiceImpl implements StopOrderService, OrderEventListener, SmartInitializingSingleton {
+
+    private final StopOrderRepository stopOrderRepository;
+    private final UserRepository userRepository;
+    private final AssetCache assetCache;
+    private final OrderService orderService;
+    private final TransactionTemplate triggerTransactionTemplate;
+    private final TriggerBook triggerBook = new TriggerBook();
+
+    public StopOrderServiceImpl(StopOrderRepository stopOrderRepository, UserRepository userRepository, AssetCache assetCache,
+                                @Lazy OrderServiceImpl orderService, TransactionTemplate transactionTemplate) {
+        this.stopOrderRepository = stopOrderRepository;
+        this.userRepository = userRepository;
+        this.assetCache = assetCache;
+        this.orderService = orderService;
+        //Price updates are published after commit of the completing transaction, so triggered stops need their own one
+        this.triggerTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.triggerTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void afterSingletonsInstantiated() {
+        long restored = 0;
+        try (var stopOrders = stopOrderRepository.streamByStatus(StopOrderStatus.PENDING)) {
+            for (var iterator = stopOrders.iterator(); iterator.hasNext(); restored++) {
+                triggerBook.add(PendingStop.of(iterator.next()));
+            }
+        }
+        log.info("Restored {} pending stop orders", restored);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StopOrderResponseDto getStopOrderById(Long stopOrderId) throws OrderNotFoundException {
+        var stopOrder = stopOrderRepository.findById(stopOrderId)
+                .filter(order -> order.getStatus() != StopOrderStatus.CANCELLED)
+                .orElseThrow(() -> new OrderNotFoundException("Stop order is not found"));
+        return StopOrderMapper.mapStopOrderEntityToResponseDto(stopOrder);
+    }
+
+    @Override
+    @Transactional
+    public StopOrderResponseDto createStopOrder(StopOrderRequestDto stopOrderDto) throws UserNotFoundException, AssetNotRecognizedException {
+        var userEntity = userRepository.findById(stopOrderDto.userId()).orElseThrow(() -> new UserNotFoundException("User is not found"));
+        var asset = assetCache.findByShortName(stopOrderDto.asset()).orElseThrow(() -> new AssetNotRecognizedException("Asset does not exist"));
+        var stopOrder = StopOrderEntity.builder().asset(asset)
+                .user(userEntity)
+                .status(StopOrderStatus.PENDING)
+                .price(stopOrderDto.price())
+                .triggerPrice(stopOrderDto.triggerPrice())
+                .type(stopOrderDto.type())
+                .timestamp(Instant.now())
+                .build();
+        var savedStopOrder = stopOrderRepository.save(stopOrder);
+        var pendingStop = PendingStop.of(savedStopOrder);
+        afterCommit(() -> triggerBook.add(pendingStop));
+        return StopOrderMapper.mapStopOrderEntityToResponseDto(savedStopOrder);
+    }
+
+    @Override
+    @Transactional
+    public void cancelStopOrder(Long stopOrderId) throws OrderNotFoundException, OrderCancellationException {
+        var stopOrder = stopOrderRepository.findById(stopOrderId)
+                .filter(order -> order.getStatus() != StopOrderStatus.CANCELLED)
+                .orElseThrow(() -> new OrderNotFoundException("Stop order is not found"));
+        //Conditional update loses to a concurrent trigger instead of cancelling an already submitted stop
+        if (stopOrder.getStatus() == StopOrderStatus.TRIGGERED
+                || stopOrderRepository.updateStatus(stopOrderId, StopOrderStatus.PENDING, StopOrderStatus.CANCELLED) != 1) {
+            throw new OrderCancellationException("Stop order is already triggered and can not be canceled");
+        }
+        var pendingStop = PendingStop.of(stopOrder);
+        afterCommit(() -> triggerBook.remove(pendingStop));
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        if (order.getAsset() == null || order.getPrice() == null) {
+            return;
+        }
+        var triggered = triggerBook.pollTriggered(order.getAsset().getId(), order.getPrice());
+        if (triggered.isEmpty()) {
+            return;
+        }
+        try {
+            triggerTransactionTemplate.executeWithoutResult(status -> triggered.forEach(this::submit));
+            log.info("Triggered {} stop orders at price {}", triggered.size(), order.getPrice());
+        } catch (RuntimeException e) {
+            log.error("Submission of {} triggered stop orders failed, returning them to the trigger book", triggered.size(), e);
+            triggered.forEach(triggerBook::add);
+        }
+    }
+
+    int pendingStopOrders() {
+        return triggerBook.size();
+    }
+
+    private void submit(PendingStop stop) {
+        if (stopOrderRepository.updateStatus(stop.id(), StopOrderStatus.PENDING, StopOrderStatus.TRIGGERED) != 1) {
+            //Cancelled meanwhile
+            return;
+        }
+        try {
+            var asset = assetCache.findById(stop.assetId()).orElseThrow(() -> new AssetNotRecognizedException("Asset does not exist"));
+            var order = orderService.createOrder(new OrderRequestDto(stop.userId(), asset.getShortName(), stop.price(), stop.type()));
+            stopOrderRepository.updateOrderId(stop.id(), order.id());
+        } catch (UserNotFoundException | AssetNotRecognizedException | RiskLimitExceededException e) {
+            log.warn("Stop order {} can not be submitted: {}", stop.id(), e.getMessage());
+            stopOrderRepository.updateStatus(stop.id(), StopOrderStatus.TRIGGERED, StopOrderStatus.CANCELLED);
+        }
+    }
+
+    //Trigger book only sees committed stop orders, same as order event listeners
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pending stop orders of every asset sorted by trigger price. BUY stops are triggered when the last
+ * price rises to their trigger price and SELL stops when it falls to it, so a price update takes
+ * exactly the triggered range of the asset's maps in logarithmic time instead of checking every stop.
+ * Stops with the same trigger price are kept in arrival order.
+ */
+class TriggerBook {
+    private final Map<Long, AssetTriggers> triggersByAsset = new ConcurrentHashMap<>();
+
+    void add(PendingStop stop) {
+        triggersByAsset.computeIfAbsent(stop.assetId(), assetId -> new AssetTriggers()).add(stop);
+    }
+
+    boolean remove(PendingStop stop) {
+        var triggers = triggersByAsset.get(stop.assetId());
+        return triggers != null && triggers.remove(stop);
+    }
+
+    /**
+     * Removes and returns stops of the asset triggered by the last price, in the order the price has crossed them.
+     */
+    List<PendingStop> pollTriggered(long assetId, BigDecimal lastPrice) {
+        var triggers = triggersByAsset.get(assetId);
+        return triggers != null ? triggers.pollTriggered(lastPrice) : List.of();
+    }
+
+    int size() {
+        return triggersByAsset.values().stream().mapToInt(AssetTriggers::size).sum();
+    }
+
+    private static class AssetTriggers {
+        private final TreeMap<BigDecimal, Map<Long, PendingStop>> buyStops = new TreeMap<>();
+        private final TreeMap<BigDecimal, Map<Long, PendingStop>> sellStops = new TreeMap<>();
+        private int size;
+
+        synchronized void add(PendingStop stop) {
+            if (sideOf(stop.type()).computeIfAbsent(stop.triggerPrice(), price -> new LinkedHashMap<>()).put(stop.id(), stop) == null) {
+                size++;
+            }
+        }
+
+        synchronized boolean remove(PendingStop stop) {
+            var side = sideOf(stop.type());
+            var level = side.get(stop.triggerPrice());
+            if (level == null || level.remove(stop.id()) == null) {
+                return false;
+            }
+            if (level.isEmpty()) {
+                side.remove(stop.triggerPrice());
+            }
+            size--;
+            return true;
+        }
+
+        synchronized List<PendingStop> pollTriggered(BigDecimal lastPrice) {
+            List<PendingStop> triggered = new ArrayList<>();
+            drain(buyStops.headMap(lastPrice, true), triggered);
+            drain(sellStops.tailMap(lastPrice, true).descendingMap(), triggered);
+            size -= triggered.size();
+            return triggered;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        private TreeMap<BigDecimal, Map<Long, PendingStop>> sideOf(OrderType type) {
+            return type == OrderType.SELL ? sellStops : buyStops;
+        }
+
+        private static void drain(NavigableMap<BigDecimal, Map<Long, PendingStop>> range, List<PendingStop> triggered) {
+            range.values().forEach(level -> triggered.addAll(level.values()));
+            range.clear();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running order totals of a single user. Counters are {@link LongAdder}s and amounts are
+ * updated with compare-and-set, so concurrent updates for the same user never block.
+ */
+class UserOrderStats {
+    private final LongAdder[] countsByStatus = new LongAdder[OrderStatus.values().length];
+    private final AtomicReference<BigDecimal> buyNotional = new AtomicReference<>(BigDecimal.ZERO);
+    private final AtomicReference<BigDecimal> sellNotional = new AtomicReference<>(BigDecimal.ZERO);
+    private final AtomicReference<BigDecimal> feesPaid = new AtomicReference<>(BigDecimal.ZERO);
+
+    UserOrderStats() {
+        for (int i = 0; i < countsByStatus.length; i++) {
+            countsByStatus[i] = new LongAdder();
+        }
+    }
+
+    void addCount(OrderStatus status, long delta) {
+        countsByStatus[status.ordinal()].add(delta);
+    }
+
+    void addCompleted(OrderType type, BigDecimal price, BigDecimal fee) {
+        if (price != null) {
+            (type == OrderType.SELL ? sellNotional : buyNotional).accumulateAndGet(price, BigDecimal::add);
+        }
+        if (fee != null) {
+            feesPaid.accumulateAndGet(fee, BigDecimal::add);
+        }
+    }
+
+    long getCount(OrderStatus status) {
+        return countsByStatus[status.ordinal()].sum();
+    }
+
+    BigDecimal getBuyNotional() {
+        return buyNotional.get();
+    }
+
+    BigDecimal getSellNotional() {
+        return sellNotional.get();
+    }
+
+    BigDecimal getFeesPaid() {
+        return feesPaid.get();
+    }
+
+    Map<OrderStatus, Long> getCountsByStatus() {
+        var counts = new EnumMap<OrderStatus, Long>(OrderStatus.class);
+        for (var status : OrderStatus.values()) {
+            counts.put(status, getCount(status));
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,20 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.FeeMismatchEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Settlement totals of a single user within one chunk of orders.
+ */
+record UserSettlement(
+        Long userId,
+        long orders,
+        BigDecimal buyNotional,
+        BigDecimal sellNotional,
+        BigDecimal fees,
+        BigDecimal recomputedFees,
+        List<FeeMismatchEntity> mismatches) {
+
+}
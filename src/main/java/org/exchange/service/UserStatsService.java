@@ -0,0 +1,15 @@
+package org.exchange.service;
+
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderStatus;
+
+public interface UserStatsService {
+    UserStatsResponseDto getUserStats(Long userId) throws UserNotFoundException;
+
+    /**
+     * Number of orders of the user with given status, or of all not cancelled orders when status is null.
+     * Matches the total of the corresponding order search without querying the database.
+     */
+    long countOrders(Long userId, OrderStatus status);
+}
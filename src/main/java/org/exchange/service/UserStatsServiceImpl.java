@@ -0,0 +1,105 @@
+package org.exchange.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.repository.OrderRepository;
+import org.exchange.repository.UserRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves per-user order statistics from counters kept up to date by order events.
+ * Counters are rebuilt from the database with a single aggregate query on startup, before the web server
+ * is started and before scheduled tasks, so no order event is missed or counted twice.
+ * Database is asked whether the user exists only for users without counters.
+ */
+@Service
+@Slf4j
+public class UserStatsServiceImpl implements UserStatsService, OrderEventListener, SmartInitializingSingleton {
+
+    //Shared by users without orders, it is never updated
+    private static final UserOrderStats NO_ORDERS = new UserOrderStats();
+
+    private final Map<Long, UserOrderStats> statsByUser = new ConcurrentHashMap<>();
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+
+    public UserStatsServiceImpl(OrderRepository orderRepository, UserRepository userRepository) {
+        this.orderRepository = orderRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        statsByUser.clear();
+        var totals = orderRepository.aggregateTotals();
+        for (var total : totals) {
+            var stats = statsFor(total.getUserId());
+            stats.addCount(total.getStatus(), total.getCount());
+            if (total.getStatus() == OrderStatus.COMPLETED) {
+                stats.addCompleted(total.getType(), total.getNotional(), total.getFees());
+            }
+        }
+        log.info("Rebuilt order statistics for {} users", statsByUser.size());
+    }
+
+    @Override
+    public UserStatsResponseDto getUserStats(Long userId) throws UserNotFoundException {
+        var stats = statsByUser.get(userId);
+        if (stats == null) {
+            if (!userRepository.existsById(userId)) {
+                throw new UserNotFoundException("User doesn't exists");
+            }
+            stats = NO_ORDERS;
+        }
+        return new UserStatsResponseDto(userId,
+                stats.getCount(OrderStatus.NEW),
+                stats.getBuyNotional(),
+                stats.getSellNotional(),
+                stats.getFeesPaid(),
+                stats.getCountsByStatus());
+    }
+
+    @Override
+    public long countOrders(Long userId, OrderStatus status) {
+        var stats = statsByUser.get(userId);
+        if (stats == null) {
+            return 0;
+        }
+        if (status == null) {
+            return stats.getCount(OrderStatus.NEW) + stats.getCount(OrderStatus.COMPLETED);
+        }
+        return stats.getCount(status);
+    }
+
+    @Override
+    public void onOrderCreated(OrderEntity order) {
+        statsFor(order.getUser().getId()).addCount(OrderStatus.NEW, 1);
+    }
+
+    @Override
+    public void onOrderCancelled(OrderEntity order) {
+        var stats = statsFor(order.getUser().getId());
+        stats.addCount(OrderStatus.NEW, -1);
+        stats.addCount(OrderStatus.CANCELLED, 1);
+    }
+
+    @Override
+    public void onOrderCompleted(OrderEntity order) {
+        var stats = statsFor(order.getUser().getId());
+        stats.addCount(OrderStatus.NEW, -1);
+        stats.addCount(OrderStatus.COMPLETED, 1);
+        stats.addCompleted(order.getType(), order.getPrice(), order.getFee());
+    }
+
+    private UserOrderStats statsFor(Long userId) {
+        return statsByUser.computeIfAbsent(userId, id -> new UserOrderStats());
+    }
+}
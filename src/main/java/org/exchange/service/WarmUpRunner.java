@@ -0,0 +1,134 @@
+package org.exchange.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.exchange.repository.AssetRepository;
+import org.exchange.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Runs synthetic order calls before the application reports readiness, so that JIT compiled code,
+ * Hibernate query plans and pooled connections are ready for the first real orders.
+ * <p>
+ * Synthetic orders never reach the database, they are added to {@link OpenOrderIndex} and {@link ExposureLedger}
+ * directly with negative ids and a warm-up user id, which identity columns never produce. Get requests of them are
+ * served by the index fast path, cancel and complete run their update statements which match no row,
+ * and the orders are removed from the index and the ledger again. Search runs against the first real user.
+ * Inserts are not warmed, they would consume identity ids on every start. Other order event listeners
+ * are not notified, so statistics and market data do not see warm-up orders.
+ */
+@Component
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "exchange.warmup", name = "enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    static final long WARM_UP_USER_ID = -1L;
+
+    private final OrderServiceImpl orderService;
+    private final OpenOrderIndex openOrderIndex;
+    private final ExposureLedger exposureLedger;
+    private final FeeCalculator feeCalculator;
+    private final UserRepository userRepository;
+    private final AssetRepository assetRepository;
+    private final ObjectMapper objectMapper;
+    private final int iterations;
+
+    public WarmUpRunner(OrderServiceImpl orderService, OpenOrderIndex openOrderIndex, ExposureLedger exposureLedger,
+                        FeeCalculator feeCalculator, UserRepository userRepository, AssetRepository assetRepository,
+                        ObjectMapper objectMapper, @Value("${exchange.warmup.iterations:5000}") int iterations) {
+        this.orderService = orderService;
+        this.openOrderIndex = openOrderIndex;
+        this.exposureLedger = exposureLedger;
+        this.feeCalculator = feeCalculator;
+        this.userRepository = userRepository;
+        this.assetRepository = assetRepository;
+        this.objectMapper = objectMapper;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var user = userRepository.findAll(PageRequest.of(0, 1)).stream().findFirst();
+        var asset = assetRepository.findAll(PageRequest.of(0, 1)).stream().findFirst();
+        if (user.isEmpty() || asset.isEmpty()) {
+            log.warn("Warm-up skipped, there are no users or assets");
+            return;
+        }
+        var userId = user.get().getId();
+        var warmUpUser = UserEntity.builder().id(WARM_UP_USER_ID).fee(user.get().getFee()).build();
+        var pageable = PageRequest.of(0, 20, Sort.by("timestamp").descending());
+        var start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            var type = i % 2 == 0 ? OrderType.BUY : OrderType.SELL;
+            var price = BigDecimal.valueOf(10_000 + i % 1_000, 2);
+            var order = open(-(i + 1L), warmUpUser, asset.get(), type, price);
+            try {
+                objectMapper.writeValueAsBytes(orderService.getOrderById(order.getId()));
+                objectMapper.writeValueAsBytes(orderService.searchOrders(userId, OrderStatus.NEW, pageable).getContent());
+                if (i % 2 == 0) {
+                    orderService.cancelOrder(order.getId());
+                } else {
+                    orderService.completeOrder(order.getId());
+                }
+            } catch (OrderNotFoundException ignored) {
+                //Expected, update statements of warm-up orders match no row
+            } catch (UserNotFoundException | OrderCancellationException | JsonProcessingException e) {
+                throw new IllegalStateException("Warm-up iteration failed", e);
+            } finally {
+                openOrderIndex.onOrderCancelled(order);
+                exposureLedger.onOrderCancelled(order);
+            }
+        }
+        log.info("Warm-up of {} iterations finished in {} ms, {} orders are indexed", iterations,
+                (System.nanoTime() - start) / 1_000_000, openOrderIndex.size());
+    }
+
+    //Same steps createOrder takes around the insert, the insert itself is skipped
+    private OrderEntity open(long orderId, UserEntity user, AssetEntity asset, OrderType type, BigDecimal price) {
+        ExposureLedger.Reservation reservation;
+        try {
+            reservation = exposureLedger.reserve(user.getId(), asset.getId(), type, price);
+        } catch (RiskLimitExceededException e) {
+            throw new IllegalStateException("Warm-up iteration failed", e);
+        }
+        try {
+            var order = OrderEntity.builder().id(orderId)
+                    .asset(asset)
+                    .user(user)
+                    .status(OrderStatus.NEW)
+                    .price(price)
+                    .type(type)
+                    .timestamp(Instant.now())
+                    .build();
+            order.setFee(feeCalculator.calculateFee(order));
+            order.roundToStoredPrecision();
+            openOrderIndex.onOrderCreated(order);
+            exposureLedger.onOrderCreated(order);
+            return order;
+        } finally {
+            reservation.release();
+        }
+    }
+}
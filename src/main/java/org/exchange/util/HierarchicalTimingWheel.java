@@ -0,0 +1,198 @@
+package org.exchange.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Hierarchical timing wheel of long ids. Level 0 has one bucket per tick, every next level
+ * has buckets as long as the whole previous level. Entries are moved one level down when time
+ * reaches their bucket, and fire from level 0, so scheduling and cancellation take O(1).
+ * Entries scheduled beyond the top level span wait in the top level and are re-placed until due.
+ * <p>
+ * Entries are kept in primitive arrays and chained into buckets by slot number. Not thread safe.
+ */
+public class HierarchicalTimingWheel {
+    private static final int NONE = -1;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+    private final int[] bucketHeads;
+    private final LongIntHashMap slotsById;
+
+    private long[] ids;
+    private long[] deadlineTicks;
+    private int[] buckets;
+    private int[] next;
+    private int[] previous;
+    //Free slots are chained through next
+    private int firstFreeSlot = NONE;
+    private int usedSlots;
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelBits, int levels, long originMillis) {
+        if (tickMillis < 1 || wheelBits < 1 || levels < 1 || (long) wheelBits * levels > 62) {
+            throw new IllegalArgumentException("Unsupported timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.wheelBits = wheelBits;
+        this.wheelMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.bucketHeads = new int[levels << wheelBits];
+        Arrays.fill(bucketHeads, NONE);
+        this.slotsById = new LongIntHashMap(1024, NONE);
+        allocate(1024);
+    }
+
+    /**
+     * Schedules id to fire at given time, replacing its previous deadline. Deadlines which are
+     * already due fire on the next advance.
+     */
+    public void schedule(long id, long deadlineMillis) {
+        cancel(id);
+        var slot = allocateSlot();
+        ids[slot] = id;
+        deadlineTicks[slot] = Math.max(currentTick + 1, Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis));
+        slotsById.put(id, slot);
+        place(slot);
+    }
+
+    public boolean cancel(long id) {
+        var slot = slotsById.remove(id);
+        if (slot == NONE) {
+            return false;
+        }
+        unlink(slot);
+        release(slot);
+        return true;
+    }
+
+    /**
+     * Moves the wheel to given time and passes every id that became due to the consumer.
+     *
+     * @return number of fired ids
+     */
+    public int advance(long nowMillis, LongConsumer expired) {
+        var targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        var fired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < levels && (currentTick & ((1L << (wheelBits * level)) - 1)) == 0; level++) {
+                cascade(bucketOf(level, currentTick));
+            }
+            fired += fire(bucketOf(0, currentTick), expired);
+        }
+        return fired;
+    }
+
+    public int size() {
+        return slotsById.size();
+    }
+
+    private int fire(int bucket, LongConsumer expired) {
+        var fired = 0;
+        var slot = bucketHeads[bucket];
+        bucketHeads[bucket] = NONE;
+        while (slot != NONE) {
+            var nextSlot = next[slot];
+            if (deadlineTicks[slot] <= currentTick) {
+                var id = ids[slot];
+                slotsById.remove(id);
+                release(slot);
+                expired.accept(id);
+                fired++;
+            } else {
+                place(slot);
+            }
+            slot = nextSlot;
+        }
+        return fired;
+    }
+
+    private void cascade(int bucket) {
+        var slot = bucketHeads[bucket];
+        bucketHeads[bucket] = NONE;
+        while (slot != NONE) {
+            var nextSlot = next[slot];
+            place(slot);
+            slot = nextSlot;
+        }
+    }
+
+    private void place(int slot) {
+        var deadline = deadlineTicks[slot];
+        var delta = deadline - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << (wheelBits * (level + 1))) {
+                link(slot, bucketOf(level, deadline));
+                return;
+            }
+        }
+        //Beyond the top level span, park in the farthest top level bucket and re-place when it is reached
+        link(slot, bucketOf(levels - 1, currentTick + (1L << (wheelBits * levels)) - 1));
+    }
+
+    private int bucketOf(int level, long tick) {
+        return (level << wheelBits) | (int) ((tick >>> (wheelBits * level)) & wheelMask);
+    }
+
+    private void link(int slot, int bucket) {
+        var first = bucketHeads[bucket];
+        buckets[slot] = bucket;
+        previous[slot] = NONE;
+        next[slot] = first;
+        if (first != NONE) {
+            previous[first] = slot;
+        }
+        bucketHeads[bucket] = slot;
+    }
+
+    private void unlink(int slot) {
+        var nextSlot = next[slot];
+        var previousSlot = previous[slot];
+        if (previousSlot != NONE) {
+            next[previousSlot] = nextSlot;
+        } else {
+            bucketHeads[buckets[slot]] = nextSlot;
+        }
+        if (nextSlot != NONE) {
+            previous[nextSlot] = previousSlot;
+        }
+    }
+
+    private int allocateSlot() {
+        if (firstFreeSlot != NONE) {
+            var slot = firstFreeSlot;
+            firstFreeSlot = next[slot];
+            return slot;
+        }
+        if (usedSlots == ids.length) {
+            grow(ids.length << 1);
+        }
+        return usedSlots++;
+    }
+
+    private void release(int slot) {
+        next[slot] = firstFreeSlot;
+        firstFreeSlot = slot;
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        deadlineTicks = new long[capacity];
+        buckets = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        deadlineTicks = Arrays.copyOf(deadlineTicks, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+    }
+}
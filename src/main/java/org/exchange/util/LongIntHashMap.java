@@ -0,0 +1,148 @@
+package org.exchange.util;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive long keys to int values. Keys are kept in a flat array
+ * with linear probing and removal shifts entries back, so there are no tombstones and no boxing.
+ * Key 0 is reserved to mark empty slots. Not thread safe.
+ */
+public class LongIntHashMap {
+    private static final long EMPTY_KEY = 0L;
+    private static final double LOAD_FACTOR = 0.6;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(long key) {
+        checkKey(key);
+        for (int index = indexOf(key); ; index = (index + 1) & mask) {
+            var candidate = keys[index];
+            if (candidate == key) {
+                return values[index];
+            }
+            if (candidate == EMPTY_KEY) {
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * Associates value with key and returns previous value, or missing value when the key was absent.
+     */
+    public int put(long key, int value) {
+        checkKey(key);
+        for (int index = indexOf(key); ; index = (index + 1) & mask) {
+            var candidate = keys[index];
+            if (candidate == key) {
+                var previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            if (candidate == EMPTY_KEY) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeThreshold) {
+                    resize(keys.length << 1);
+                }
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * Removes key and returns its value, or missing value when the key was absent.
+     */
+    public int remove(long key) {
+        checkKey(key);
+        for (int index = indexOf(key); ; index = (index + 1) & mask) {
+            var candidate = keys[index];
+            if (candidate == EMPTY_KEY) {
+                return missingValue;
+            }
+            if (candidate == key) {
+                var previous = values[index];
+                shiftBack(index);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    //Moves following entries of the probe sequence into the freed slot unless that would place them before their home slot
+    private void shiftBack(int freed) {
+        var index = freed;
+        while (true) {
+            index = (index + 1) & mask;
+            var key = keys[index];
+            if (key == EMPTY_KEY) {
+                break;
+            }
+            var home = indexOf(key);
+            var canMove = freed <= index ? (home <= freed || home > index) : (home <= freed && home > index);
+            if (canMove) {
+                keys[freed] = key;
+                values[freed] = values[index];
+                freed = index;
+            }
+        }
+        keys[freed] = EMPTY_KEY;
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int index = indexOf(oldKeys[i]);
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int indexOf(long key) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        var capacity = Integer.highestOneBit(Math.max(8, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        return Math.max(8, capacity);
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+    }
+}
@@ -0,0 +1,2 @@
+insert into Users(firstname, lastname, email, fee)
+select 'Load', concat('User', x), concat('load', x, '@example.com'), 0.10 from system_range(1, 9999);
@@ -0,0 +1,19 @@
+-- Local stand-in for a replica: tables of the primary file database linked read-only into the replica one.
+-- Replica sees committed primary data at once, lag fallback can be tried with a lower max-lag-ms.
+-- Source tables are schema qualified, H2 has INFORMATION_SCHEMA.USERS too.
+DROP TABLE IF EXISTS orders;
+DROP TABLE IF EXISTS users;
+DROP TABLE IF EXISTS assets;
+DROP TABLE IF EXISTS stop_orders;
+DROP TABLE IF EXISTS replication_heartbeat;
+DROP TABLE IF EXISTS settlement_runs;
+DROP TABLE IF EXISTS user_settlements;
+DROP TABLE IF EXISTS fee_mismatches;
+CREATE LINKED TABLE orders('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.ORDERS') READONLY;
+CREATE LINKED TABLE users('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.USERS') READONLY;
+CREATE LINKED TABLE assets('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.ASSETS') READONLY;
+CREATE LINKED TABLE stop_orders('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.STOP_ORDERS') READONLY;
+CREATE LINKED TABLE replication_heartbeat('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.REPLICATION_HEARTBEAT') READONLY;
+CREATE LINKED TABLE settlement_runs('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.SETTLEMENT_RUNS') READONLY;
+CREATE LINKED TABLE user_settlements('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.USER_SETTLEMENTS') READONLY;
+CREATE LINKED TABLE fee_mismatches('org.h2.Driver', 'jdbc:h2:file:./target/h2/primary', 'sa', 'password', 'PUBLIC.FEE_MISMATCHES') READONLY;
@@ -0,0 +1,113 @@
+package org.exchange;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orders go through the public api against the seeded in-memory database, so completion events reach
+ * every in-memory view and the stop order trigger book the way they do in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class OrderLifecycleIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void completedOrderFeedsStatisticsAndCandlesTest() throws Exception {
+        var orderId = createOrder("ETH", "BUY", "120.00");
+
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", orderId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+        mockMvc.perform(get("/api/v1/users/{id}/stats", 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ordersByStatus.COMPLETED").value(greaterThanOrEqualTo(1)));
+        mockMvc.perform(get("/api/v1/assets/{shortName}/candles", "ETH").param("interval", "1m"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trades[0].orderId").value(orderId))
+                .andExpect(jsonPath("$.trades[0].price").value(120.0));
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", orderId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void completedOrderTriggersStopOrderTest() throws Exception {
+        var stopResponse = mockMvc.perform(post("/api/v1/stop-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "asset": "BTC", "price": 95.00, "triggerPrice": 96.00, "type": "SELL"}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        var stopOrderId = ((Number) JsonPath.read(stopResponse, "$.id")).longValue();
+
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", createOrder("BTC", "BUY", "97.00")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/stop-orders/{id}", stopOrderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", createOrder("BTC", "BUY", "95.50")))
+                .andExpect(status().isOk());
+
+        var triggered = mockMvc.perform(get("/api/v1/stop-orders/{id}", stopOrderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TRIGGERED"))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/v1/orders/{id}", ((Number) JsonPath.read(triggered, "$.orderId")).longValue()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.asset").value("BTC"))
+                .andExpect(jsonPath("$.type").value("SELL"))
+                .andExpect(jsonPath("$.status").value("NEW"));
+    }
+
+    @Test
+    void openOrderFromIndexEqualsStoredOrderTest() throws Exception {
+        //Fee 0.15 * 10.5 and current time have more digits than their columns keep
+        var orderId = createOrder("SOL", "SELL", "10.5");
+
+        var indexed = mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        var stored = mockMvc.perform(get("/api/v1/orders").param("userId", "1").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Map<String, Object> indexedOrder = JsonPath.read(indexed, "$");
+        List<Map<String, Object>> storedOrders = JsonPath.read(stored, "$[?(@.id == %d)]".formatted(orderId));
+        Assertions.assertEquals(storedOrders.get(0), indexedOrder);
+        Assertions.assertEquals(1.58, indexedOrder.get("fee"));
+        Assertions.assertTrue(indexed.contains("\"price\":10.50,"), indexed);
+    }
+
+    private long createOrder(String asset, String type, String price) throws Exception {
+        var response = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "asset": "%s", "price": %s, "type": "%s"}""".formatted(asset, price, type)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.id")).longValue();
+    }
+}
@@ -0,0 +1,39 @@
+package org.exchange.cluster;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void sameKeySameNodeTest() {
+        var nodes = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+        var ring = new ConsistentHashRing(nodes, 128);
+        var otherRing = new ConsistentHashRing(nodes, 128);
+
+        for (var asset : List.of("BTC", "ETH", "SOL")) {
+            Assertions.assertEquals(ring.nodeFor(asset), otherRing.nodeFor(asset));
+        }
+    }
+
+    @Test
+    void addingNodeMovesKeysOnlyToNewNodeTest() {
+        var ring = new ConsistentHashRing(List.of("node-a", "node-b"), 128);
+        var grownRing = new ConsistentHashRing(List.of("node-a", "node-b", "node-c"), 128);
+        var keys = IntStream.range(0, 1000).mapToObj(i -> "ASSET" + i).toList();
+
+        var moved = 0;
+        for (var key : keys) {
+            var before = ring.nodeFor(key);
+            var after = grownRing.nodeFor(key);
+            if (before != after) {
+                Assertions.assertEquals(2, after);
+                moved++;
+            }
+        }
+        Assertions.assertTrue(moved > 200 && moved < 500, "Unexpected share of moved keys " + moved);
+    }
+}
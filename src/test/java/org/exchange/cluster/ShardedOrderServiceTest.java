@@ -0,0 +1,110 @@
+package org.exchange.cluster;
+
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.dto.OrderSliceDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.service.OrderService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ShardedOrderServiceTest {
+    private static final String REMOTE_NODE = "http://localhost:8082";
+
+    private OrderService localOrderService;
+
+    private ShardClient shardClient;
+
+    private ShardRouter shardRouter;
+
+    private ShardedOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        localOrderService = Mockito.mock(OrderService.class);
+        shardClient = Mockito.mock(ShardClient.class);
+        var properties = new ClusterProperties();
+        properties.setNodes(List.of("http://localhost:8081", REMOTE_NODE));
+        properties.setNodeIndex(0);
+        shardRouter = new ShardRouter(properties);
+        service = new ShardedOrderService(localOrderService, shardRouter, shardClient);
+    }
+
+    @Test
+    void getOrderRoutedByIdTest() throws Exception {
+        service.getOrderById(1L);
+        service.getOrderById(2L);
+
+        Mockito.verify(localOrderService).getOrderById(1L);
+        Mockito.verify(shardClient).getOrder(REMOTE_NODE, 2L);
+    }
+
+    @Test
+    void createOrderOfLocalAssetTest() throws Exception {
+        //Placement on the ring is stable for the same node urls
+        Assertions.assertEquals(0, shardRouter.ownerOfAsset("BTC"));
+        var request = new OrderRequestDto(1L, "BTC", new BigDecimal(100), OrderType.BUY);
+
+        service.createOrder(request);
+
+        Mockito.verify(localOrderService).createOrder(request);
+        Mockito.verifyNoInteractions(shardClient);
+    }
+
+    @Test
+    void createOrderOfRemoteAssetTest() throws Exception {
+        Assertions.assertEquals(1, shardRouter.ownerOfAsset("ETH"));
+        var request = new OrderRequestDto(1L, "ETH", new BigDecimal(100), OrderType.BUY);
+
+        service.createOrder(request);
+
+        Mockito.verify(shardClient).createOrder(REMOTE_NODE, request);
+        Mockito.verifyNoInteractions(localOrderService);
+    }
+
+    @Test
+    void searchOrdersMergedTest() throws Exception {
+        var userId = 1L;
+        var now = Instant.now();
+        var pageable = PageRequest.of(1, 2, Sort.by("timestamp").ascending());
+        var shardPageable = PageRequest.of(0, 4, pageable.getSort());
+        when(localOrderService.searchOrders(userId, null, shardPageable))
+                .thenReturn(new SliceImpl<>(List.of(order(1L, now), order(3L, now.plusSeconds(2)), order(5L, now.plusSeconds(4)))));
+        when(shardClient.searchOrders(eq(REMOTE_NODE), eq(userId), any(), eq(shardPageable)))
+                .thenReturn(CompletableFuture.completedFuture(new OrderSliceDto(List.of(order(2L, now.plusSeconds(1)), order(4L, now.plusSeconds(3))), false)));
+
+        var orders = service.searchOrders(userId, null, pageable);
+
+        Assertions.assertEquals(List.of(3L, 4L), orders.getContent().stream().map(OrderResponseDto::id).toList());
+        Assertions.assertTrue(orders.hasNext());
+    }
+
+    @Test
+    void searchOrdersByUnsupportedSortRejectedTest() {
+        var pageable = PageRequest.of(0, 2, Sort.by("user.email"));
+
+        Assertions.assertThrows(PropertyReferenceException.class, () -> service.searchOrders(1L, null, pageable));
+
+        Mockito.verifyNoInteractions(localOrderService, shardClient);
+    }
+
+    private static OrderResponseDto order(Long id, Instant timestamp) {
+        return new OrderResponseDto(id, 1L, "BTC", new BigDecimal(100), new BigDecimal(5), OrderType.BUY, OrderStatus.NEW, timestamp);
+    }
+}
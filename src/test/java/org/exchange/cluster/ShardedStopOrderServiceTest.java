@@ -0,0 +1,70 @@
+package org.exchange.cluster;
+
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.entity.OrderType;
+import org.exchange.service.StopOrderService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class ShardedStopOrderServiceTest {
+    private static final String REMOTE_NODE = "http://localhost:8082";
+
+    private StopOrderService localStopOrderService;
+
+    private ShardClient shardClient;
+
+    private ShardRouter shardRouter;
+
+    private ShardedStopOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        localStopOrderService = Mockito.mock(StopOrderService.class);
+        shardClient = Mockito.mock(ShardClient.class);
+        var properties = new ClusterProperties();
+        properties.setNodes(List.of("http://localhost:8081", REMOTE_NODE));
+        properties.setNodeIndex(0);
+        shardRouter = new ShardRouter(properties);
+        service = new ShardedStopOrderService(localStopOrderService, shardRouter, shardClient);
+    }
+
+    @Test
+    void createStopOrderOfLocalAssetTest() throws Exception {
+        Assertions.assertEquals(0, shardRouter.ownerOfAsset("BTC"));
+        var request = new StopOrderRequestDto(1L, "BTC", new BigDecimal(100), new BigDecimal(90), OrderType.SELL);
+
+        service.createStopOrder(request);
+
+        Mockito.verify(localStopOrderService).createStopOrder(request);
+        Mockito.verifyNoInteractions(shardClient);
+    }
+
+    @Test
+    void createStopOrderOfRemoteAssetTest() throws Exception {
+        Assertions.assertEquals(1, shardRouter.ownerOfAsset("ETH"));
+        var request = new StopOrderRequestDto(1L, "ETH", new BigDecimal(100), new BigDecimal(110), OrderType.BUY);
+
+        service.createStopOrder(request);
+
+        Mockito.verify(shardClient).createStopOrder(REMOTE_NODE, request);
+        Mockito.verifyNoInteractions(localStopOrderService);
+    }
+
+    @Test
+    void stopOrderRoutedByIdTest() throws Exception {
+        service.getStopOrderById(1L);
+        service.getStopOrderById(2L);
+        service.cancelStopOrder(3L);
+        service.cancelStopOrder(4L);
+
+        Mockito.verify(localStopOrderService).getStopOrderById(1L);
+        Mockito.verify(shardClient).getStopOrder(REMOTE_NODE, 2L);
+        Mockito.verify(localStopOrderService).cancelStopOrder(3L);
+        Mockito.verify(shardClient).cancelStopOrder(REMOTE_NODE, 4L);
+    }
+}
@@ -0,0 +1,75 @@
+package org.exchange.controller;
+
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.IntervalNotSupportedException;
+import org.exchange.model.dto.CandleDto;
+import org.exchange.model.dto.CandlesResponseDto;
+import org.exchange.model.dto.TradeDto;
+import org.exchange.model.entity.OrderType;
+import org.exchange.service.MarketDataService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AssetController.class)
+class AssetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MarketDataService marketDataService;
+
+    @Test
+    void getCandlesTest() throws Exception {
+        var candle = new CandleDto(Instant.now(), new BigDecimal(100), new BigDecimal(110), new BigDecimal(90), new BigDecimal(105), 4);
+        var trade = new TradeDto(1L, new BigDecimal(105), OrderType.BUY, Instant.now());
+        Mockito.when(marketDataService.getCandles("BTC", "1s", 10)).thenReturn(new CandlesResponseDto("BTC", "1s", List.of(candle), List.of(trade)));
+
+        mockMvc.perform(get("/api/v1/assets/{shortName}/candles", "BTC")
+                        .param("interval", "1s")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.candles", hasSize(1)))
+                .andExpect(jsonPath("$.candles[0].volume").value(4))
+                .andExpect(jsonPath("$.trades[0].orderId").value(1));
+    }
+
+    @Test
+    void getCandlesDefaultsTest() throws Exception {
+        Mockito.when(marketDataService.getCandles("BTC", "1m", 60)).thenReturn(new CandlesResponseDto("BTC", "1m", List.of(), List.of()));
+
+        mockMvc.perform(get("/api/v1/assets/{shortName}/candles", "BTC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interval").value("1m"));
+    }
+
+    @Test
+    void getCandlesUnknownAssetTest() throws Exception {
+        Mockito.when(marketDataService.getCandles("ABC", "1m", 60)).thenThrow(new AssetNotRecognizedException());
+
+        mockMvc.perform(get("/api/v1/assets/{shortName}/candles", "ABC"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCandlesUnsupportedIntervalTest() throws Exception {
+        Mockito.when(marketDataService.getCandles("BTC", "5m", 60)).thenThrow(new IntervalNotSupportedException());
+
+        mockMvc.perform(get("/api/v1/assets/{shortName}/candles", "BTC")
+                        .param("interval", "5m"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -4,18 +4,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.exchange.exception.AssetNotRecognizedException;
 import org.exchange.exception.OrderCancellationException;
 import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
 import org.exchange.exception.UserNotFoundException;
 import org.exchange.model.dto.OrderRequestDto;
 import org.exchange.model.dto.OrderResponseDto;
 import org.exchange.model.entity.OrderStatus;
 import org.exchange.model.entity.OrderType;
 import org.exchange.service.OrderService;
+import org.exchange.service.UserStatsService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -37,6 +40,9 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private UserStatsService userStatsService;
+
     @Test
     void getOrderTest() throws Exception {
         Long orderId = 1L;
@@ -62,12 +68,35 @@ class OrderControllerTest {
         var orders = List.of(
                 new OrderResponseDto(1L, 1L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now()),
                 new OrderResponseDto(2L, 1L, "ETH", new BigDecimal(300), new BigDecimal(5), OrderType.SELL, OrderStatus.NEW, Instant.now()));
-        Mockito.when(orderService.searchOrders(eq(userId), isNull(), any(Pageable.class))).thenReturn(orders);
+        Mockito.when(orderService.searchOrders(eq(userId), isNull(), any(Pageable.class))).thenReturn(new SliceImpl<>(orders));
 
         mockMvc.perform(get("/api/v1/orders")
                         .param("userId", String.valueOf(userId)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(orders.size())));
+                .andExpect(jsonPath("$", hasSize(orders.size())))
+                .andExpect(header().string("X-Has-More", "false"))
+                .andExpect(header().doesNotExist("X-Total-Count"));
+        Mockito.verifyNoInteractions(userStatsService);
+    }
+
+    @Test
+    void searchOrdersWithTotalTest() throws Exception {
+        var userId = 1L;
+        var orders = List.of(
+                new OrderResponseDto(1L, 1L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now()));
+        Mockito.when(orderService.searchOrders(eq(userId), eq(OrderStatus.NEW), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(orders, Pageable.ofSize(1), true));
+        Mockito.when(userStatsService.countOrders(userId, OrderStatus.NEW)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/orders")
+                        .param("userId", String.valueOf(userId))
+                        .param("status", String.valueOf(OrderStatus.NEW))
+                        .param("size", "1")
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string("X-Has-More", "true"))
+                .andExpect(header().string("X-Total-Count", "3"));
     }
 
     @Test
@@ -105,6 +134,18 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createOrderRiskLimitExceededTest() throws Exception {
+        var orderRequest = new OrderRequestDto(1L, "BTC",  new BigDecimal(200), OrderType.BUY);
+        Mockito.when(orderService.createOrder(any(OrderRequestDto.class))).thenThrow(new RiskLimitExceededException("Open orders limit of asset is exceeded"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(orderRequest)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Open orders limit of asset is exceeded"));
+    }
+
     @Test
     void createOrderWrongPriceTest() throws Exception {
         var orderRequest = new OrderRequestDto(1L, "BTC",  new BigDecimal(-200), OrderType.BUY);
@@ -152,4 +193,22 @@ class OrderControllerTest {
         mockMvc.perform(delete("/api/v1/orders/{id}", orderId))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void completeOrderTest() throws Exception {
+        var orderId = 1L;
+
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", orderId))
+                .andExpect(status().isOk());
+        Mockito.verify(orderService).completeOrder(orderId);
+    }
+
+    @Test
+    void completeOrderNotFoundTest() throws Exception {
+        var orderId = 1L;
+        Mockito.doThrow(new OrderNotFoundException()).when(orderService).completeOrder(orderId);
+
+        mockMvc.perform(post("/api/v1/orders/{id}/complete", orderId))
+                .andExpect(status().isNotFound());
+    }
 }
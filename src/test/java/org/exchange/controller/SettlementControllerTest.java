@@ -0,0 +1,92 @@
+package org.exchange.controller;
+
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.dto.UserSettlementDto;
+import org.exchange.model.entity.SettlementStatus;
+import org.exchange.service.SettlementService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SettlementController.class)
+class SettlementControllerTest {
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SettlementService settlementService;
+
+    @Test
+    void startSettlementTest() throws Exception {
+        Mockito.when(settlementService.startSettlement(BUSINESS_DATE)).thenReturn(new SettlementRunDto(BUSINESS_DATE, SettlementStatus.RUNNING,
+                0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, Instant.now(), null));
+
+        mockMvc.perform(post("/api/v1/settlements/{date}", "2024-01-15"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.businessDate").value("2024-01-15"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    void startSettlementInProgressTest() throws Exception {
+        Mockito.when(settlementService.startSettlement(BUSINESS_DATE)).thenThrow(new SettlementRejectedException("Settlement of 2024-01-15 is in progress"));
+
+        mockMvc.perform(post("/api/v1/settlements/{date}", "2024-01-15"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getSettlementRunNotFoundTest() throws Exception {
+        Mockito.when(settlementService.getSettlementRun(BUSINESS_DATE)).thenThrow(new SettlementNotFoundException());
+
+        mockMvc.perform(get("/api/v1/settlements/{date}", "2024-01-15"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getUserSettlementTest() throws Exception {
+        Mockito.when(settlementService.getUserSettlement(BUSINESS_DATE, 1L)).thenReturn(new UserSettlementDto(BUSINESS_DATE, 1L, 3,
+                new BigDecimal(100), new BigDecimal(50), new BigDecimal(15), new BigDecimal(15)));
+
+        mockMvc.perform(get("/api/v1/settlements/{date}/users/{userId}", "2024-01-15", 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders").value(3))
+                .andExpect(jsonPath("$.fees").value(15));
+    }
+
+    @Test
+    void getFeeMismatchesTest() throws Exception {
+        Mockito.when(settlementService.getFeeMismatches(eq(BUSINESS_DATE), any())).thenReturn(new SliceImpl<>(
+                List.of(new FeeMismatchDto(2L, 1L, new BigDecimal(5), new BigDecimal(20))), Pageable.ofSize(1), true));
+
+        mockMvc.perform(get("/api/v1/settlements/{date}/mismatches", "2024-01-15"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(OrderController.HAS_MORE_HEADER, "true"))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].orderId").value(2));
+    }
+}
@@ -0,0 +1,63 @@
+package org.exchange.controller;
+
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.StopOrderStatus;
+import org.exchange.service.StopOrderService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StopOrderController.class)
+class StopOrderControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StopOrderService stopOrderService;
+
+    @Test
+    void createStopOrderTest() throws Exception {
+        var response = new StopOrderResponseDto(1L, 1L, "BTC", new BigDecimal("101.00"), new BigDecimal("100.00"),
+                OrderType.BUY, StopOrderStatus.PENDING, null, Instant.now());
+        Mockito.when(stopOrderService.createStopOrder(any())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/stop-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "asset": "BTC", "price": 101.00, "triggerPrice": 100.00, "type": "BUY"}"""))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void createStopOrderWithoutTriggerPriceTest() throws Exception {
+        mockMvc.perform(post("/api/v1/stop-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "asset": "BTC", "price": 101.00, "type": "BUY"}"""))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cancelTriggeredStopOrderTest() throws Exception {
+        Mockito.doThrow(new OrderCancellationException()).when(stopOrderService).cancelStopOrder(1L);
+
+        mockMvc.perform(delete("/api/v1/stop-orders/{id}", 1L))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,50 @@
+package org.exchange.controller;
+
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.UserStatsResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.service.UserStatsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserController.class)
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserStatsService userStatsService;
+
+    @Test
+    void getUserStatsTest() throws Exception {
+        var userId = 1L;
+        Mockito.when(userStatsService.getUserStats(userId)).thenReturn(new UserStatsResponseDto(userId, 2,
+                new BigDecimal(100), new BigDecimal(50), new BigDecimal(15), Map.of(OrderStatus.NEW, 2L)));
+
+        mockMvc.perform(get("/api/v1/users/{id}/stats", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openOrders").value(2))
+                .andExpect(jsonPath("$.ordersByStatus.NEW").value(2));
+    }
+
+    @Test
+    void getUserStatsUserNotFoundTest() throws Exception {
+        var userId = 1L;
+        Mockito.when(userStatsService.getUserStats(userId)).thenThrow(new UserNotFoundException());
+
+        mockMvc.perform(get("/api/v1/users/{id}/stats", userId))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,104 @@
+package org.exchange.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.util.StreamUtils;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Compares the order codec with Jackson databinding on the payloads the converter handles: a search page
+ * of orders written to a stream and an order request read from bytes. Reports CPU time and allocated bytes
+ * of the benchmark thread per operation. Not part of the regular build, run with
+ * {@code mvn test -Dtest=OrderJsonCodecBenchmark -Dbenchmark=true}.
+ */
+@JsonTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderJsonCodecBenchmark {
+    private static final int WARM_UP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 500_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final JsonWriter writer = new JsonWriter();
+
+    //Consumed results, so the JIT can not drop the work
+    private long sink;
+
+    @Test
+    void writeOrdersTest() throws Exception {
+        var orders = new ArrayList<OrderResponseDto>();
+        var timestamp = Instant.parse("2024-01-15T10:15:30.123456Z");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            orders.add(new OrderResponseDto(1_000_000L + i, 42L, i % 2 == 0 ? "BTC" : "ETH", new BigDecimal("43125.50").add(BigDecimal.valueOf(i)),
+                    new BigDecimal("6468.83"), i % 2 == 0 ? OrderType.BUY : OrderType.SELL, OrderStatus.NEW, timestamp.plusMillis(i), null));
+        }
+        //Jackson closes the stream after writing, its message converter guards the response stream the same way
+        var stream = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+
+        var codec = measure("write " + PAGE_SIZE + " orders, codec", () -> {
+            writer.reset();
+            OrderJsonCodec.writeOrders(writer, orders);
+            writer.writeTo(stream);
+            sink += writer.size();
+        });
+        var jackson = measure("write " + PAGE_SIZE + " orders, Jackson", () -> objectMapper.writeValue(stream, orders));
+
+        Assertions.assertTrue(codec.allocatedBytes() < jackson.allocatedBytes(), "Codec allocates less than Jackson");
+    }
+
+    @Test
+    void readOrderRequestTest() throws Exception {
+        var json = "{\"userId\":42,\"asset\":\"BTC\",\"price\":43125.50,\"type\":\"BUY\",\"expiresAt\":\"2030-01-01T00:00:00Z\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        var jsonFactory = objectMapper.getFactory();
+
+        var codec = measure("read order request, codec", () -> {
+            try (var parser = jsonFactory.createParser(json)) {
+                sink += OrderJsonCodec.readOrderRequest(parser).userId();
+            }
+        });
+        var jackson = measure("read order request, Jackson", () -> sink += objectMapper.readValue(json, OrderRequestDto.class).userId());
+
+        Assertions.assertTrue(codec.allocatedBytes() < jackson.allocatedBytes(), "Codec allocates less than Jackson");
+    }
+
+    private Result measure(String name, Operation operation) throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            operation.run();
+        }
+        var cpuStart = THREADS.getCurrentThreadCpuTime();
+        var allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        var result = new Result((THREADS.getCurrentThreadCpuTime() - cpuStart) / (double) ITERATIONS,
+                (THREADS.getCurrentThreadAllocatedBytes() - allocatedStart) / (double) ITERATIONS);
+        System.out.printf("%-32s %10.0f ns/op %10.0f B/op%n", name, result.cpuNanos(), result.allocatedBytes());
+        return result;
+    }
+
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    private record Result(double cpuNanos, double allocatedBytes) {
+    }
+}
@@ -0,0 +1,100 @@
+package org.exchange.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exchange.model.dto.ErrorResponseDto;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@JsonTest
+class OrderJsonCodecTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final JsonWriter writer = new JsonWriter();
+
+    @Test
+    void writeOrdersAsJacksonTest() throws Exception {
+        List<OrderResponseDto> orders = new ArrayList<>();
+        orders.add(new OrderResponseDto(1L, 2L, "BTC", new BigDecimal("100.50"), new BigDecimal("15.0750"), OrderType.BUY, OrderStatus.NEW,
+                Instant.parse("2024-01-15T10:15:30Z"), Instant.parse("2030-01-01T00:00:00.123Z")));
+        orders.add(new OrderResponseDto(Long.MAX_VALUE, -1L, "ETH", new BigDecimal("1E+3"), BigDecimal.ZERO, OrderType.SELL, OrderStatus.COMPLETED,
+                Instant.parse("1970-01-01T00:00:00.000001Z"), null));
+        orders.add(new OrderResponseDto(3L, 4L, "Ünïcödé \"quoted\" \\ </script>\n\t\u0001 🚀", new BigDecimal("-0.00001"), new BigDecimal("12345678901234567890.123456789"),
+                OrderType.BUY, OrderStatus.CANCELLED, Instant.parse("2024-02-29T23:59:59.999999999Z"), Instant.parse("+10000-01-01T00:00:00Z")));
+        orders.add(new OrderResponseDto(null, null, null, null, null, null, null, null, null));
+
+        OrderJsonCodec.writeOrders(writer, orders);
+
+        //Jackson's String writer keeps characters outside of BMP as is, its UTF-8 writer escapes them as the codec does
+        Assertions.assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(orders)), objectMapper.readTree(writer.toByteArray()));
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(orders), writer.toByteArray());
+    }
+
+    @Test
+    void writeEmptyOrdersAsJacksonTest() throws Exception {
+        OrderJsonCodec.writeOrders(writer, List.of());
+
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(List.of()), writer.toByteArray());
+    }
+
+    @Test
+    void writeErrorAsJacksonTest() throws Exception {
+        var error = new ErrorResponseDto("Validation error: Price should be greater than 0; \"asset\" is é\r\n\u001f");
+
+        OrderJsonCodec.writeError(writer, error);
+
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(error), writer.toByteArray());
+    }
+
+    @Test
+    void instantsAsJacksonTest() throws Exception {
+        var instant = Instant.parse("1999-12-31T23:59:59Z");
+        for (int i = 0; i < 10_000; i++) {
+            instant = instant.plusSeconds(i * 7_919L).plusNanos(i * 1_000_003L);
+            var order = new OrderResponseDto(1L, 1L, "BTC", BigDecimal.ONE, BigDecimal.ONE, OrderType.BUY, OrderStatus.NEW, instant, null);
+            writer.reset();
+
+            OrderJsonCodec.writeOrder(writer, order);
+
+            Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(order), writer.toByteArray(), instant.toString());
+        }
+    }
+
+    @Test
+    void readOrderRequestAsJacksonTest() throws Exception {
+        var requests = List.of(
+                "{\"userId\":1,\"asset\":\"BTC\",\"price\":100.50,\"type\":\"BUY\"}",
+                "{\"userId\":\"2\",\"asset\":\"ETH\",\"price\":\"1E+2\",\"type\":\"SELL\",\"expiresAt\":\"2030-01-01T00:00:00.5Z\"}",
+                "{\"type\":1,\"unknown\":{\"nested\":[1,2,{\"a\":null}]},\"expiresAt\":1893456000,\"asset\":\"\\u00c9\\n\"}",
+                "{\"userId\":null,\"asset\":null,\"price\":null,\"type\":null,\"expiresAt\":null}",
+                "{\"userId\":1,\"userId\":3,\"price\":\"\",\"expiresAt\":1893456000.25}",
+                "{}");
+        for (var request : requests) {
+            try (var parser = objectMapper.getFactory().createParser(request)) {
+                Assertions.assertEquals(objectMapper.readValue(request, OrderRequestDto.class), OrderJsonCodec.readOrderRequest(parser), request);
+            }
+        }
+    }
+
+    @Test
+    void readInvalidOrderRequestTest() throws Exception {
+        for (var request : List.of("[]", "{\"type\":\"HOLD\"}", "{\"userId\":\"one\"}", "{\"price\":[1]}", "{\"expiresAt\":\"tomorrow\"}", "{\"userId\":1")) {
+            try (var parser = objectMapper.getFactory().createParser(request)) {
+                Assertions.assertThrows(Exception.class, () -> objectMapper.readValue(request, OrderRequestDto.class), request);
+                Assertions.assertThrows(Exception.class, () -> OrderJsonCodec.readOrderRequest(parser), request);
+            }
+        }
+    }
+}
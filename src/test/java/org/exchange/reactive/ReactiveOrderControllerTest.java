@@ -0,0 +1,208 @@
+package org.exchange.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exchange.exception.AssetNotRecognizedException;
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.service.UserStatsService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.*;
+
+@WebFluxTest(ReactiveOrderController.class)
+@ActiveProfiles("reactive")
+class ReactiveOrderControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveOrderService orderService;
+
+    @MockBean
+    private UserStatsService userStatsService;
+
+    @Test
+    void getOrderTest() {
+        Long orderId = 1L;
+        Mockito.when(orderService.getOrderById(orderId)).thenReturn(Mono.just(new OrderResponseDto(1L, 2L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now())));
+
+        webTestClient.get().uri("/api/v1/orders/{id}", orderId).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(orderId);
+    }
+
+    @Test
+    void getOrderNotFoundTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.getOrderById(orderId)).thenReturn(Mono.error(new OrderNotFoundException()));
+
+        webTestClient.get().uri("/api/v1/orders/{id}", orderId).exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void searchOrdersTest() {
+        var userId = 1L;
+        var orders = List.of(
+                new OrderResponseDto(1L, 1L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now()),
+                new OrderResponseDto(2L, 1L, "ETH", new BigDecimal(300), new BigDecimal(5), OrderType.SELL, OrderStatus.NEW, Instant.now()));
+        Mockito.when(orderService.searchOrders(eq(userId), isNull(), any(Pageable.class))).thenReturn(Mono.just(new SliceImpl<>(orders)));
+
+        webTestClient.get().uri(uri -> uri.path("/api/v1/orders").queryParam("userId", userId).build()).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-More", "false")
+                .expectHeader().doesNotExist("X-Total-Count")
+                .expectBody().jsonPath("$.length()").isEqualTo(orders.size());
+        Mockito.verifyNoInteractions(userStatsService);
+    }
+
+    @Test
+    void searchOrdersWithTotalTest() {
+        var userId = 1L;
+        var orders = List.of(
+                new OrderResponseDto(1L, 1L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now()));
+        Mockito.when(orderService.searchOrders(eq(userId), eq(OrderStatus.NEW), any(Pageable.class)))
+                .thenReturn(Mono.just(new SliceImpl<>(orders, Pageable.ofSize(1), true)));
+        Mockito.when(userStatsService.countOrders(userId, OrderStatus.NEW)).thenReturn(3L);
+
+        webTestClient.get().uri(uri -> uri.path("/api/v1/orders")
+                        .queryParam("userId", userId)
+                        .queryParam("status", OrderStatus.NEW)
+                        .queryParam("size", 1)
+                        .queryParam("includeTotal", true)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Has-More", "true")
+                .expectHeader().valueEquals("X-Total-Count", "3")
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+    }
+
+    @Test
+    void searchOrdersUserNotFoundTest() {
+        var userId = 1L;
+        Mockito.when(orderService.searchOrders(eq(userId), any(OrderStatus.class), any(Pageable.class))).thenReturn(Mono.error(new UserNotFoundException()));
+
+        webTestClient.get().uri(uri -> uri.path("/api/v1/orders")
+                        .queryParam("userId", userId)
+                        .queryParam("status", OrderStatus.NEW)
+                        .build())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void createOrderTest() throws Exception {
+        var orderRequest = new OrderRequestDto(1L, "BTC",  new BigDecimal(200), OrderType.BUY);
+        var orderResponse = new OrderResponseDto(1L, 1L, "BTC", new BigDecimal(200), new BigDecimal(35), OrderType.BUY, OrderStatus.NEW, Instant.now());
+        Mockito.when(orderService.createOrder(any(OrderRequestDto.class))).thenReturn(Mono.just(orderResponse));
+
+        webTestClient.post().uri("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ObjectMapper().writeValueAsString(orderRequest))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location");
+    }
+
+    @Test
+    void createOrderWrongAssetTest() throws Exception {
+        var orderRequest = new OrderRequestDto(1L, "ABC",  new BigDecimal(200), OrderType.BUY);
+        Mockito.when(orderService.createOrder(any(OrderRequestDto.class))).thenReturn(Mono.error(new AssetNotRecognizedException()));
+
+        webTestClient.post().uri("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ObjectMapper().writeValueAsString(orderRequest))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void createOrderWrongPriceTest() throws Exception {
+        var orderRequest = new OrderRequestDto(1L, "BTC",  new BigDecimal(-200), OrderType.BUY);
+
+        webTestClient.post().uri("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ObjectMapper().writeValueAsString(orderRequest))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").value(startsWith("Validation error: "));
+    }
+
+    @Test
+    void createOrderUnreadableBodyTest() {
+        webTestClient.post().uri("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"userId\": 1, \"type\": \"HOLD\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void cancelOrderTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.cancelOrder(orderId)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri("/api/v1/orders/{id}", orderId).exchange()
+                .expectStatus().isOk();
+        Mockito.verify(orderService).cancelOrder(orderId);
+    }
+
+    @Test
+    void cancelOrderNotFoundTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.cancelOrder(orderId)).thenReturn(Mono.error(new OrderNotFoundException()));
+
+        webTestClient.delete().uri("/api/v1/orders/{id}", orderId).exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void cancelOrderAlreadyCancelledTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.cancelOrder(orderId)).thenReturn(Mono.error(new OrderCancellationException()));
+
+        webTestClient.delete().uri("/api/v1/orders/{id}", orderId).exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void completeOrderTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.completeOrder(orderId)).thenReturn(Mono.empty());
+
+        webTestClient.post().uri("/api/v1/orders/{id}/complete", orderId).exchange()
+                .expectStatus().isOk();
+        Mockito.verify(orderService).completeOrder(orderId);
+    }
+
+    @Test
+    void completeOrderNotFoundTest() {
+        var orderId = 1L;
+        Mockito.when(orderService.completeOrder(orderId)).thenReturn(Mono.error(new OrderNotFoundException()));
+
+        webTestClient.post().uri("/api/v1/orders/{id}/complete", orderId).exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,223 @@
+package org.exchange.reactive;
+
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.repository.AssetRepository;
+import org.exchange.service.AssetCache;
+import org.exchange.service.ExposureLedger;
+import org.exchange.service.FeeCalculator;
+import org.exchange.service.OpenOrderIndex;
+import org.exchange.service.OrderEventListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ReactiveOrderServiceImplTest {
+    private static final AssetEntity BTC = AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build();
+
+    private ReactiveOrderService service;
+
+    private ReactiveOrderRepository orderRepository;
+
+    private ReactiveUserRepository userRepository;
+
+    private R2dbcEntityTemplate entityTemplate;
+
+    private OrderEventListener orderEventListener;
+
+    private OpenOrderIndex openOrderIndex;
+
+    private ExposureLedger exposureLedger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        orderRepository = Mockito.mock(ReactiveOrderRepository.class);
+        userRepository = Mockito.mock(ReactiveUserRepository.class);
+        entityTemplate = Mockito.mock(R2dbcEntityTemplate.class);
+        var transactionalOperator = Mockito.mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        var assetRepository = Mockito.mock(AssetRepository.class);
+        when(assetRepository.findAll()).thenReturn(List.of(BTC));
+        var assetCache = new AssetCache(assetRepository);
+        assetCache.run(null);
+        FeeCalculator feeCalculator = order -> order.getUser().getFee().multiply(order.getPrice());
+        orderEventListener = Mockito.mock(OrderEventListener.class);
+        openOrderIndex = new OpenOrderIndex();
+        exposureLedger = new ExposureLedger(1, BigDecimal.ZERO);
+        service = new ReactiveOrderServiceImpl(orderRepository, userRepository, entityTemplate, transactionalOperator,
+                assetCache, feeCalculator, openOrderIndex, exposureLedger, List.of(orderEventListener));
+    }
+
+    @Test
+    void getOrderByIdTest() {
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(row(1L, OrderStatus.COMPLETED)));
+
+        StepVerifier.create(service.getOrderById(1L))
+                .assertNext(order -> {
+                    Assertions.assertEquals(1L, order.id());
+                    Assertions.assertEquals("BTC", order.asset());
+                    Assertions.assertEquals(OrderStatus.COMPLETED, order.status());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getOrderByIdFromIndexTest() {
+        openOrderIndex.onOrderCreated(row(1L, OrderStatus.NEW).toOrderEntity(BTC));
+
+        StepVerifier.create(service.getOrderById(1L))
+                .assertNext(order -> Assertions.assertEquals("BTC", order.asset()))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void getOrderByIdCancelledTest() {
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(row(1L, OrderStatus.CANCELLED)));
+
+        StepVerifier.create(service.getOrderById(1L))
+                .verifyError(OrderNotFoundException.class);
+    }
+
+    @Test
+    void createOrderTest() {
+        when(userRepository.findById(2L)).thenReturn(Mono.just(new UserRow(2L, new BigDecimal("0.15"))));
+        when(orderRepository.save(any(OrderRow.class))).thenAnswer(invocation -> Mono.just(((OrderRow) invocation.getArgument(0)).withId(1L)));
+
+        StepVerifier.create(service.createOrder(new OrderRequestDto(2L, "BTC", new BigDecimal("100.00"), OrderType.BUY)))
+                .assertNext(order -> {
+                    Assertions.assertEquals(1L, order.id());
+                    Assertions.assertEquals(OrderStatus.NEW, order.status());
+                    Assertions.assertEquals(new BigDecimal("15.00"), order.fee());
+                })
+                .verifyComplete();
+        var created = ArgumentCaptor.forClass(OrderEntity.class);
+        Mockito.verify(orderEventListener).onOrderCreated(created.capture());
+        Assertions.assertEquals(1L, created.getValue().getId());
+    }
+
+    @Test
+    void createOrderRiskLimitExceededTest() {
+        when(userRepository.findById(2L)).thenReturn(Mono.just(new UserRow(2L, new BigDecimal("0.15"))));
+        exposureLedger.onOrderRestored(row(1L, OrderStatus.NEW).toOrderEntity(BTC));
+
+        StepVerifier.create(service.createOrder(new OrderRequestDto(2L, "BTC", new BigDecimal("100.00"), OrderType.BUY)))
+                .verifyError(RiskLimitExceededException.class);
+        Mockito.verify(orderRepository, Mockito.never()).save(any(OrderRow.class));
+    }
+
+    @Test
+    void createOrderUserNotFoundTest() {
+        when(userRepository.findById(2L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.createOrder(new OrderRequestDto(2L, "BTC", new BigDecimal("100.00"), OrderType.BUY)))
+                .verifyError(UserNotFoundException.class);
+        Mockito.verifyNoInteractions(orderEventListener);
+    }
+
+    @Test
+    void searchOrdersTest() {
+        var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
+        when(entityTemplate.select(any(Query.class), eq(OrderRow.class))).thenReturn(Flux.just(row(1L, OrderStatus.NEW), row(2L, OrderStatus.NEW)));
+
+        StepVerifier.create(service.searchOrders(2L, null, pageable))
+                .assertNext(orders -> {
+                    Assertions.assertEquals(1, orders.getNumberOfElements());
+                    Assertions.assertTrue(orders.hasNext());
+                })
+                .verifyComplete();
+        Mockito.verify(userRepository, Mockito.never()).existsById(2L);
+    }
+
+    @Test
+    void searchOrdersUserNotFoundTest() {
+        var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
+        when(userRepository.existsById(2L)).thenReturn(Mono.just(false));
+        when(entityTemplate.select(any(Query.class), eq(OrderRow.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(service.searchOrders(2L, null, pageable))
+                .verifyError(UserNotFoundException.class);
+    }
+
+    @Test
+    void cancelOrderTest() {
+        when(orderRepository.updateStatus(1L, OrderStatus.NEW.ordinal(), OrderStatus.CANCELLED.ordinal())).thenReturn(Mono.just(1));
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(row(1L, OrderStatus.CANCELLED)));
+
+        StepVerifier.create(service.cancelOrder(1L)).verifyComplete();
+        Mockito.verify(orderEventListener).onOrderCancelled(any(OrderEntity.class));
+    }
+
+    @Test
+    void cancelOrderCompletedTest() {
+        when(orderRepository.updateStatus(1L, OrderStatus.NEW.ordinal(), OrderStatus.CANCELLED.ordinal())).thenReturn(Mono.just(0));
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(row(1L, OrderStatus.COMPLETED)));
+
+        StepVerifier.create(service.cancelOrder(1L)).verifyError(OrderCancellationException.class);
+        Mockito.verifyNoInteractions(orderEventListener);
+    }
+
+    @Test
+    void cancelOrderNotFoundTest() {
+        when(orderRepository.updateStatus(1L, OrderStatus.NEW.ordinal(), OrderStatus.CANCELLED.ordinal())).thenReturn(Mono.just(0));
+        when(orderRepository.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.cancelOrder(1L)).verifyError(OrderNotFoundException.class);
+    }
+
+    @Test
+    void completeOrderTest() {
+        when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.NEW.ordinal()), eq(OrderStatus.COMPLETED.ordinal()), any(OffsetDateTime.class)))
+                .thenReturn(Mono.just(1));
+        when(orderRepository.findById(1L)).thenReturn(Mono.just(row(1L, OrderStatus.COMPLETED)));
+
+        StepVerifier.create(service.completeOrder(1L)).verifyComplete();
+        var completed = ArgumentCaptor.forClass(OrderEntity.class);
+        Mockito.verify(orderEventListener).onOrderCompleted(completed.capture());
+        Assertions.assertEquals(OrderStatus.COMPLETED, completed.getValue().getStatus());
+        Assertions.assertNotNull(completed.getValue().getCompletedAt());
+    }
+
+    @Test
+    void completeOrderNotOpenTest() {
+        when(orderRepository.updateStatus(eq(1L), eq(OrderStatus.NEW.ordinal()), eq(OrderStatus.COMPLETED.ordinal()), any(OffsetDateTime.class)))
+                .thenReturn(Mono.just(0));
+
+        StepVerifier.create(service.completeOrder(1L)).verifyError(OrderNotFoundException.class);
+        Mockito.verify(orderRepository, Mockito.never()).findById(1L);
+        Mockito.verifyNoInteractions(orderEventListener);
+    }
+
+    private static OrderRow row(Long id, OrderStatus status) {
+        return new OrderRow(id, 2L, BTC.getId(), OrderType.BUY.ordinal(), new BigDecimal("100.00"), new BigDecimal("15.00"),
+                status.ordinal(), Instant.now().atOffset(ZoneOffset.UTC), null);
+    }
+}
@@ -0,0 +1,77 @@
+package org.exchange.reactive;
+
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.dto.FeeMismatchDto;
+import org.exchange.model.dto.SettlementRunDto;
+import org.exchange.model.entity.SettlementStatus;
+import org.exchange.service.SettlementService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@WebFluxTest(ReactiveSettlementController.class)
+@ActiveProfiles("reactive")
+class ReactiveSettlementControllerTest {
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private SettlementService settlementService;
+
+    @Test
+    void startSettlementTest() throws Exception {
+        Mockito.when(settlementService.startSettlement(BUSINESS_DATE)).thenReturn(new SettlementRunDto(BUSINESS_DATE, SettlementStatus.RUNNING,
+                0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, Instant.now(), null));
+
+        webTestClient.post().uri("/api/v1/settlements/{date}", "2024-01-15").exchange()
+                .expectStatus().isAccepted()
+                .expectBody()
+                .jsonPath("$.businessDate").isEqualTo("2024-01-15")
+                .jsonPath("$.status").isEqualTo("RUNNING");
+    }
+
+    @Test
+    void startSettlementInProgressTest() throws Exception {
+        Mockito.when(settlementService.startSettlement(BUSINESS_DATE)).thenThrow(new SettlementRejectedException("Settlement of 2024-01-15 is in progress"));
+
+        webTestClient.post().uri("/api/v1/settlements/{date}", "2024-01-15").exchange()
+                .expectStatus().isEqualTo(409);
+    }
+
+    @Test
+    void getSettlementRunNotFoundTest() throws Exception {
+        Mockito.when(settlementService.getSettlementRun(BUSINESS_DATE)).thenThrow(new SettlementNotFoundException());
+
+        webTestClient.get().uri("/api/v1/settlements/{date}", "2024-01-15").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void getFeeMismatchesTest() throws Exception {
+        var mismatch = new FeeMismatchDto(1L, 2L, new BigDecimal("1.50"), new BigDecimal("1.55"));
+        Mockito.when(settlementService.getFeeMismatches(eq(BUSINESS_DATE), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(mismatch), Pageable.ofSize(1), true));
+
+        webTestClient.get().uri("/api/v1/settlements/{date}/mismatches?size=1", "2024-01-15").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(ReactiveOrderController.HAS_MORE_HEADER, "true")
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+    }
+}
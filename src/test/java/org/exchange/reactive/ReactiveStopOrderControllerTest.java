@@ -0,0 +1,74 @@
+package org.exchange.reactive;
+
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.model.dto.StopOrderResponseDto;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.StopOrderStatus;
+import org.exchange.service.StopOrderService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+
+@WebFluxTest(ReactiveStopOrderController.class)
+@ActiveProfiles("reactive")
+class ReactiveStopOrderControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private StopOrderService stopOrderService;
+
+    @Test
+    void createStopOrderTest() throws Exception {
+        var response = new StopOrderResponseDto(1L, 1L, "BTC", new BigDecimal("101.00"), new BigDecimal("100.00"),
+                OrderType.BUY, StopOrderStatus.PENDING, null, Instant.now());
+        Mockito.when(stopOrderService.createStopOrder(any())).thenReturn(response);
+
+        webTestClient.post().uri("/api/v1/stop-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"userId": 1, "asset": "BTC", "price": 101.00, "triggerPrice": 100.00, "type": "BUY"}""")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location")
+                .expectBody().jsonPath("$.status").isEqualTo("PENDING");
+    }
+
+    @Test
+    void createStopOrderWithoutTriggerPriceTest() {
+        webTestClient.post().uri("/api/v1/stop-orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("""
+                        {"userId": 1, "asset": "BTC", "price": 101.00, "type": "BUY"}""")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void getStopOrderNotFoundTest() throws Exception {
+        Mockito.when(stopOrderService.getStopOrderById(1L)).thenThrow(new OrderNotFoundException());
+
+        webTestClient.get().uri("/api/v1/stop-orders/{id}", 1L).exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void cancelTriggeredStopOrderTest() throws Exception {
+        Mockito.doThrow(new OrderCancellationException()).when(stopOrderService).cancelStopOrder(1L);
+
+        webTestClient.delete().uri("/api/v1/stop-orders/{id}", 1L).exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,91 @@
+package org.exchange.routing;
+
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.UserEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+class ReadWriteRoutingDataSourceTest {
+    private static final String PRIMARY = ReadWriteRoutingDataSource.PRIMARY;
+    private static final String FIRST_REPLICA = ReadWriteRoutingDataSource.replicaKey(0);
+    private static final String SECOND_REPLICA = ReadWriteRoutingDataSource.replicaKey(1);
+
+    private final RecentWrites recentWrites = new RecentWrites(60_000);
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadWriteRoutingDataSource(Mockito.mock(DataSource.class),
+                List.of(Mockito.mock(DataSource.class), Mockito.mock(DataSource.class)), recentWrites);
+        routingDataSource.setReplicaHealthy(0, true);
+        routingDataSource.setReplicaHealthy(1, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writesGoToPrimaryTest() {
+        Assertions.assertEquals(PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void readOnlyTransactionsSpreadOverReplicasTest() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        var first = routingDataSource.determineCurrentLookupKey();
+        var second = routingDataSource.determineCurrentLookupKey();
+
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertTrue(List.of(FIRST_REPLICA, SECOND_REPLICA).containsAll(List.of(first, second)));
+    }
+
+    @Test
+    void laggingReplicasSkippedTest() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.setReplicaHealthy(0, false);
+
+        Assertions.assertEquals(SECOND_REPLICA, routingDataSource.determineCurrentLookupKey());
+        Assertions.assertEquals(SECOND_REPLICA, routingDataSource.determineCurrentLookupKey());
+
+        routingDataSource.setReplicaHealthy(1, false);
+        Assertions.assertEquals(PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void recentWritesReadFromPrimaryTest() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        recentWrites.onOrderCompleted(OrderEntity.builder().id(10L).user(UserEntity.builder().id(1L).build()).build());
+
+        try (var ignored = ReadRoutingContext.forUser(1L)) {
+            Assertions.assertEquals(PRIMARY, routingDataSource.determineCurrentLookupKey());
+        }
+        try (var ignored = ReadRoutingContext.forOrder(10L)) {
+            Assertions.assertEquals(PRIMARY, routingDataSource.determineCurrentLookupKey());
+        }
+        try (var ignored = ReadRoutingContext.forUser(2L)) {
+            Assertions.assertNotEquals(PRIMARY, routingDataSource.determineCurrentLookupKey());
+        }
+        Assertions.assertNull(ReadRoutingContext.current());
+    }
+
+    @Test
+    void recentWritesExpireTest() {
+        var expiring = new RecentWrites(0);
+        expiring.onOrderCreated(OrderEntity.builder().id(10L).user(UserEntity.builder().id(1L).build()).build());
+
+        Assertions.assertFalse(expiring.isRecent(new ReadRoutingContext.Subject(1L, 10L)));
+        expiring.purgeExpired();
+        Assertions.assertEquals(0, expiring.size());
+    }
+}
@@ -0,0 +1,58 @@
+package org.exchange.routing;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Starts profile replica with its two file-backed H2 databases, the replica set up from replica-h2.sql.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("replica")
+@DirtiesContext
+class ReplicaProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void replicaServesPrimaryDataTest() throws Exception {
+        var routingDataSource = (ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource();
+        Assertions.assertTrue(routingDataSource.isReplicaHealthy(0));
+
+        var response = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"userId": 1, "asset": "BTC", "price": 100.00, "type": "BUY"}"""))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        var orderId = ((Number) JsonPath.read(response, "$.id")).longValue();
+
+        var replica = new JdbcTemplate(routingDataSource.getResolvedDataSources().get(ReadWriteRoutingDataSource.replicaKey(0)));
+        Assertions.assertEquals(1, replica.queryForObject("select count(*) from orders where id = ?", Integer.class, orderId));
+        Assertions.assertEquals(1, replica.queryForObject("select count(*) from users where id = 1", Integer.class));
+        mockMvc.perform(get("/api/v1/orders").param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == %d)]", orderId).exists());
+    }
+}
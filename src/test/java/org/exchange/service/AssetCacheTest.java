@@ -0,0 +1,54 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.repository.AssetRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+class AssetCacheTest {
+    private AssetCache assetCache;
+
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void setUp() {
+        assetRepository = Mockito.mock(AssetRepository.class);
+        assetCache = new AssetCache(assetRepository);
+    }
+
+    @Test
+    void preloadedAssetTest() {
+        var asset = AssetEntity.builder().id(1L).shortName("BTC").name("Bitcoin").build();
+        when(assetRepository.findAll()).thenReturn(List.of(asset));
+
+        assetCache.run(null);
+
+        Assertions.assertEquals(Optional.of(asset), assetCache.findByShortName("BTC"));
+        Assertions.assertEquals(Optional.of(asset), assetCache.findById(1L));
+        Mockito.verify(assetRepository, Mockito.never()).findByShortName("BTC");
+    }
+
+    @Test
+    void assetLoadedOnFirstLookupTest() {
+        var asset = AssetEntity.builder().id(2L).shortName("ETH").name("Ethereum").build();
+        when(assetRepository.findByShortName("ETH")).thenReturn(Optional.of(asset));
+
+        assetCache.findByShortName("ETH");
+        assetCache.findByShortName("ETH");
+
+        Mockito.verify(assetRepository, Mockito.times(1)).findByShortName("ETH");
+        Assertions.assertEquals(Optional.of(asset), assetCache.findById(2L));
+    }
+
+    @Test
+    void unknownAssetTest() {
+        Assertions.assertTrue(assetCache.findByShortName("ABC").isEmpty());
+    }
+}
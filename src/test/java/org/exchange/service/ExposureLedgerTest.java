@@ -0,0 +1,103 @@
+package org.exchange.service;
+
+import org.exchange.exception.RiskLimitExceededException;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class ExposureLedgerTest {
+    private final ExposureLedger exposureLedger = new ExposureLedger(3, new BigDecimal("250"));
+
+    @Test
+    void reservationReplacedByCreatedOrderTest() throws Exception {
+        var reservation = exposureLedger.reserve(1L, 10L, OrderType.BUY, new BigDecimal("100"));
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("100"), BigDecimal.ZERO, 1), exposureLedger.getExposure(1L, 10L));
+
+        exposureLedger.onOrderCreated(order(1L, 1L, 10L, OrderType.BUY, "100"));
+        reservation.release();
+
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("100"), BigDecimal.ZERO, 1), exposureLedger.getExposure(1L, 10L));
+    }
+
+    @Test
+    void releasedReservationLeavesNoExposureTest() throws Exception {
+        exposureLedger.reserve(1L, 10L, OrderType.SELL, new BigDecimal("100")).release();
+
+        Assertions.assertEquals(new OpenExposure(BigDecimal.ZERO, BigDecimal.ZERO, 0), exposureLedger.getExposure(1L, 10L));
+    }
+
+    @Test
+    void notionalLimitCheckedPerSideTest() throws Exception {
+        exposureLedger.onOrderCreated(order(1L, 1L, 10L, OrderType.BUY, "200"));
+
+        Assertions.assertThrows(RiskLimitExceededException.class, () -> exposureLedger.reserve(1L, 10L, OrderType.BUY, new BigDecimal("50.01")));
+        exposureLedger.reserve(1L, 10L, OrderType.BUY, new BigDecimal("50"));
+        exposureLedger.reserve(1L, 10L, OrderType.SELL, new BigDecimal("250"));
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("250"), new BigDecimal("250"), 3), exposureLedger.getExposure(1L, 10L));
+    }
+
+    @Test
+    void openOrdersLimitCheckedPerUserAndAssetTest() throws Exception {
+        for (long id = 1; id <= 3; id++) {
+            exposureLedger.onOrderRestored(order(id, 1L, 10L, OrderType.BUY, "1"));
+        }
+
+        Assertions.assertThrows(RiskLimitExceededException.class, () -> exposureLedger.reserve(1L, 10L, OrderType.SELL, BigDecimal.ONE));
+        exposureLedger.reserve(1L, 20L, OrderType.BUY, BigDecimal.ONE);
+        exposureLedger.reserve(2L, 10L, OrderType.BUY, BigDecimal.ONE);
+    }
+
+    @Test
+    void cancelledAndCompletedOrdersRemovedTest() throws Exception {
+        exposureLedger.onOrderRestored(order(1L, 1L, 10L, OrderType.BUY, "100"));
+        exposureLedger.onOrderRestored(order(2L, 1L, 10L, OrderType.SELL, "150"));
+        exposureLedger.onOrderRestored(order(3L, 1L, 10L, OrderType.BUY, "120"));
+
+        exposureLedger.onOrderCancelled(order(1L, 1L, 10L, OrderType.BUY, "100"));
+        exposureLedger.onOrderCompleted(order(2L, 1L, 10L, OrderType.SELL, "150"));
+
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("120"), BigDecimal.ZERO, 1), exposureLedger.getExposure(1L, 10L));
+        exposureLedger.reserve(1L, 10L, OrderType.SELL, new BigDecimal("250"));
+    }
+
+    @Test
+    void orderCountedOnceTest() {
+        exposureLedger.onOrderCreated(order(1L, 1L, 10L, OrderType.BUY, "100"));
+        exposureLedger.onOrderRestored(order(1L, 1L, 10L, OrderType.BUY, "100"));
+        exposureLedger.onOrderRestored(order(2L, 1L, 10L, OrderType.SELL, "50"));
+
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("100"), new BigDecimal("50"), 2), exposureLedger.getExposure(1L, 10L));
+
+        exposureLedger.onOrderCancelled(order(2L, 1L, 10L, OrderType.SELL, "50"));
+        exposureLedger.onOrderCompleted(order(2L, 1L, 10L, OrderType.SELL, "50"));
+        exposureLedger.onOrderCancelled(order(3L, 1L, 10L, OrderType.SELL, "70"));
+
+        Assertions.assertEquals(new OpenExposure(new BigDecimal("100"), BigDecimal.ZERO, 1), exposureLedger.getExposure(1L, 10L));
+    }
+
+    @Test
+    void nonPositiveLimitsNotCheckedTest() throws Exception {
+        var unlimited = new ExposureLedger(0, BigDecimal.ZERO);
+        for (int i = 0; i < 10; i++) {
+            unlimited.reserve(1L, 10L, OrderType.BUY, new BigDecimal("1000000"));
+        }
+
+        Assertions.assertEquals(10, unlimited.getExposure(1L, 10L).openOrders());
+    }
+
+    private static OrderEntity order(Long id, Long userId, Long assetId, OrderType type, String price) {
+        return OrderEntity.builder().id(id)
+                .user(UserEntity.builder().id(userId).build())
+                .asset(AssetEntity.builder().id(assetId).build())
+                .type(type)
+                .price(new BigDecimal(price))
+                .status(OrderStatus.NEW)
+                .build();
+    }
+}
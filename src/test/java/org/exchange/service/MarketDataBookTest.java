@@ -0,0 +1,88 @@
+package org.exchange.service;
+
+import org.exchange.model.dto.CandleDto;
+import org.exchange.model.dto.TradeDto;
+import org.exchange.model.entity.OrderType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+class MarketDataBookTest {
+    private static final long START = Instant.parse("2024-01-15T10:15:00Z").toEpochMilli();
+
+    private final MarketDataBook marketDataBook = new MarketDataBook(3);
+
+    @Test
+    void candlesAggregatedPerIntervalTest() {
+        marketDataBook.record(1L, 1L, OrderType.BUY, new BigDecimal("100"), START + 100);
+        marketDataBook.record(1L, 2L, OrderType.SELL, new BigDecimal("105"), START + 200);
+        marketDataBook.record(1L, 3L, OrderType.BUY, new BigDecimal("95"), START + 900);
+        marketDataBook.record(1L, 4L, OrderType.BUY, new BigDecimal("101"), START + 1_500);
+        marketDataBook.record(2L, 5L, OrderType.BUY, new BigDecimal("7"), START + 1_500);
+
+        Assertions.assertEquals(List.of(
+                candle(START, "100", "105", "95", "95", 3),
+                candle(START + 1_000, "101", "101", "101", "101", 1)),
+                marketDataBook.candles(1L, CandleInterval.ONE_SECOND, START + 2_000, 10));
+        Assertions.assertEquals(List.of(candle(START, "100", "105", "95", "101", 4)),
+                marketDataBook.candles(1L, CandleInterval.ONE_MINUTE, START + 2_000, 10));
+        Assertions.assertEquals(List.of(candle(Instant.parse("2024-01-15T10:00:00Z").toEpochMilli(), "7", "7", "7", "7", 1)),
+                marketDataBook.candles(2L, CandleInterval.ONE_HOUR, START + 2_000, 10));
+        Assertions.assertEquals(List.of(), marketDataBook.candles(3L, CandleInterval.ONE_MINUTE, START, 10));
+    }
+
+    @Test
+    void limitReturnsLastCandlesTest() {
+        for (int i = 0; i < 5; i++) {
+            marketDataBook.record(1L, i, OrderType.BUY, BigDecimal.valueOf(i), START + i * 1_000L);
+        }
+
+        var candles = marketDataBook.candles(1L, CandleInterval.ONE_SECOND, START + 4_000, 2);
+
+        Assertions.assertEquals(List.of(candle(START + 3_000, "3", "3", "3", "3", 1), candle(START + 4_000, "4", "4", "4", "4", 1)), candles);
+    }
+
+    @Test
+    void candlesOutsideWindowDroppedTest() {
+        var capacity = CandleInterval.ONE_SECOND.getCapacity();
+        marketDataBook.record(1L, 1L, OrderType.BUY, new BigDecimal("100"), START);
+        marketDataBook.record(1L, 2L, OrderType.BUY, new BigDecimal("200"), START + 1_000);
+        //Reuses the slot of the first candle
+        marketDataBook.record(1L, 3L, OrderType.BUY, new BigDecimal("300"), START + capacity * 1_000L);
+
+        Assertions.assertEquals(List.of(candle(START + 1_000, "200", "200", "200", "200", 1), candle(START + capacity * 1_000L, "300", "300", "300", "300", 1)),
+                marketDataBook.candles(1L, CandleInterval.ONE_SECOND, START + capacity * 1_000L, capacity));
+        Assertions.assertEquals(List.of(), marketDataBook.candles(1L, CandleInterval.ONE_SECOND, START + 3 * capacity * 1_000L, capacity));
+    }
+
+    @Test
+    void lateEventsKeepSeriesMonotonicTest() {
+        marketDataBook.record(1L, 1L, OrderType.BUY, new BigDecimal("100"), START + 1_000);
+        marketDataBook.record(1L, 2L, OrderType.BUY, new BigDecimal("90"), START + 500);
+
+        Assertions.assertEquals(List.of(candle(START + 1_000, "100", "100", "90", "90", 2)),
+                marketDataBook.candles(1L, CandleInterval.ONE_SECOND, START + 1_000, 10));
+    }
+
+    @Test
+    void tradeTapeKeepsRecentTradesTest() {
+        for (int i = 1; i <= 4; i++) {
+            marketDataBook.record(1L, i, i % 2 == 0 ? OrderType.SELL : OrderType.BUY, BigDecimal.valueOf(i), START + i);
+        }
+
+        Assertions.assertEquals(List.of(trade(4L, "4", OrderType.SELL, START + 4), trade(3L, "3", OrderType.BUY, START + 3),
+                trade(2L, "2", OrderType.SELL, START + 2)), marketDataBook.trades(1L));
+        Assertions.assertEquals(List.of(), marketDataBook.trades(2L));
+    }
+
+    private static CandleDto candle(long openTime, String open, String high, String low, String close, long volume) {
+        return new CandleDto(Instant.ofEpochMilli(openTime), new BigDecimal(open), new BigDecimal(high), new BigDecimal(low), new BigDecimal(close), volume);
+    }
+
+    private static TradeDto trade(Long orderId, String price, OrderType type, long timestamp) {
+        return new TradeDto(orderId, new BigDecimal(price), type, Instant.ofEpochMilli(timestamp));
+    }
+}
@@ -0,0 +1,84 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+
+class OpenOrderIndexTest {
+    private final OpenOrderIndex index = new OpenOrderIndex();
+
+    @Test
+    void addAndGetTest() {
+        var timestamp = Instant.parse("2024-01-15T10:15:30.123456789Z");
+        index.onOrderCreated(order(1L, 2L, 3L, new BigDecimal("100.50"), timestamp));
+
+        var openOrder = index.get(1L);
+
+        Assertions.assertEquals(new OpenOrder(1L, 2L, 3L, new BigDecimal("100.50"), new BigDecimal("15.0750"),
+                OrderType.BUY, OrderStatus.NEW, timestamp, null), openOrder);
+        Assertions.assertNull(index.get(2L));
+    }
+
+    @Test
+    void secondaryIndexesTest() {
+        index.onOrderCreated(order(1L, 10L, 100L, new BigDecimal(1), Instant.now()));
+        index.onOrderCreated(order(2L, 10L, 200L, new BigDecimal(2), Instant.now()));
+        index.onOrderCreated(order(3L, 20L, 100L, new BigDecimal(3), Instant.now()));
+        index.onOrderCreated(order(4L, 10L, 100L, new BigDecimal(4), Instant.now()));
+
+        index.onOrderCancelled(order(4L, 10L, 100L, new BigDecimal(4), Instant.now()));
+        index.onOrderCompleted(order(1L, 10L, 100L, new BigDecimal(1), Instant.now()));
+
+        Assertions.assertArrayEquals(new long[]{2L}, sorted(index.getOrderIdsByUser(10L)));
+        Assertions.assertArrayEquals(new long[]{3L}, sorted(index.getOrderIdsByAsset(100L)));
+        Assertions.assertArrayEquals(new long[]{2L}, sorted(index.getOrderIdsByAsset(200L)));
+        Assertions.assertEquals(0, index.getOrderIdsByUser(30L).length);
+        Assertions.assertEquals(2, index.size());
+    }
+
+    @Test
+    void slotsReusedAfterRemovalTest() {
+        for (long id = 1; id <= 5_000; id++) {
+            index.onOrderCreated(order(id, id % 7 + 1, id % 3 + 1, BigDecimal.valueOf(id, 2), Instant.now()));
+        }
+        for (long id = 1; id <= 5_000; id += 2) {
+            Assertions.assertTrue(index.remove(id));
+        }
+        for (long id = 5_001; id <= 7_500; id++) {
+            index.onOrderCreated(order(id, id % 7 + 1, id % 3 + 1, BigDecimal.valueOf(id, 2), Instant.now()));
+        }
+
+        Assertions.assertEquals(5_000, index.size());
+        Assertions.assertEquals(BigDecimal.valueOf(7_500, 2), index.get(7_500L).price());
+        var total = 0;
+        for (long user = 1; user <= 7; user++) {
+            total += index.getOrderIdsByUser(user).length;
+        }
+        Assertions.assertEquals(5_000, total);
+    }
+
+    private static long[] sorted(long[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static OrderEntity order(Long id, Long userId, Long assetId, BigDecimal price, Instant timestamp) {
+        return OrderEntity.builder().id(id)
+                .user(UserEntity.builder().id(userId).build())
+                .asset(AssetEntity.builder().id(assetId).build())
+                .type(OrderType.BUY)
+                .price(price)
+                .fee(price.multiply(new BigDecimal("0.15")))
+                .status(OrderStatus.NEW)
+                .timestamp(timestamp)
+                .build();
+    }
+}
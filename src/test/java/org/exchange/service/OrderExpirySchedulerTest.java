@@ -0,0 +1,86 @@
+package org.exchange.service;
+
+import org.exchange.exception.OrderNotFoundException;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.doThrow;
+
+class OrderExpirySchedulerTest {
+    private OrderServiceImpl orderService;
+
+    private OrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderService = Mockito.mock(OrderServiceImpl.class);
+        var transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+        scheduler = new OrderExpiryScheduler(orderService, transactionTemplate, 1, 2);
+    }
+
+    @Test
+    void expireOrdersTest() throws Exception {
+        scheduler.onOrderCreated(order(1L, Instant.now().minusSeconds(1)));
+        scheduler.onOrderRestored(order(2L, Instant.now().minusSeconds(1)));
+        scheduler.onOrderCreated(order(3L, Instant.now().plusSeconds(3600)));
+        scheduler.onOrderCreated(order(4L, null));
+        Thread.sleep(5);
+
+        scheduler.expireOrders();
+
+        Mockito.verify(orderService).cancelOrder(1L);
+        Mockito.verify(orderService).cancelOrder(2L);
+        Mockito.verifyNoMoreInteractions(orderService);
+        Assertions.assertEquals(1, scheduler.pendingExpirations());
+    }
+
+    @Test
+    void cancelledOrderNotExpiredTest() throws Exception {
+        var order = order(1L, Instant.now().minusSeconds(1));
+        scheduler.onOrderCreated(order);
+        scheduler.onOrderCancelled(order);
+        Thread.sleep(5);
+
+        scheduler.expireOrders();
+
+        Mockito.verifyNoInteractions(orderService);
+        Assertions.assertEquals(0, scheduler.pendingExpirations());
+    }
+
+    @Test
+    void alreadyClosedOrderIgnoredTest() throws Exception {
+        doThrow(new OrderNotFoundException("Order is not found")).when(orderService).cancelOrder(1L);
+        scheduler.onOrderCreated(order(1L, Instant.now().minusSeconds(1)));
+        Thread.sleep(5);
+
+        scheduler.expireOrders();
+
+        Assertions.assertEquals(0, scheduler.pendingExpirations());
+    }
+
+    @Test
+    void failedBatchRescheduledTest() throws Exception {
+        doThrow(new IllegalStateException("Database unavailable")).when(orderService).cancelOrder(1L);
+        scheduler.onOrderCreated(order(1L, Instant.now().minusSeconds(1)));
+        Thread.sleep(5);
+
+        scheduler.expireOrders();
+
+        Assertions.assertEquals(1, scheduler.pendingExpirations());
+    }
+
+    private static OrderEntity order(Long id, Instant expiresAt) {
+        return OrderEntity.builder().id(id)
+                .status(OrderStatus.NEW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package org.exchange.service;
 
 import org.exchange.exception.OrderCancellationException;
 import org.exchange.exception.OrderNotFoundException;
+import org.exchange.exception.RiskLimitExceededException;
 import org.exchange.exception.UserNotFoundException;
 import org.exchange.model.dto.OrderRequestDto;
 import org.exchange.model.entity.AssetEntity;
@@ -16,11 +17,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,13 +40,23 @@ class OrderServiceImplTest {
 
     private FeeCalculator feeCalculator;
 
+    private OrderEventListener orderEventListener;
+
+    private OpenOrderIndex openOrderIndex;
+
+    private ExposureLedger exposureLedger;
+
     @BeforeEach
     void setUp() {
         orderRepository = Mockito.mock(OrderRepository.class);
         userRepository = Mockito.mock(UserRepository.class);
         assetRepository = Mockito.mock(AssetRepository.class);
         feeCalculator = Mockito.mock(FeeCalculator.class);
-        service = new OrderServiceImpl(orderRepository, userRepository, assetRepository, feeCalculator);
+        orderEventListener = Mockito.mock(OrderEventListener.class);
+        openOrderIndex = new OpenOrderIndex();
+        exposureLedger = new ExposureLedger(1, BigDecimal.ZERO);
+        service = new OrderServiceImpl(orderRepository, userRepository, new AssetCache(assetRepository), feeCalculator, openOrderIndex,
+                exposureLedger, List.of(orderEventListener));
     }
 
     @Test
@@ -102,12 +114,13 @@ class OrderServiceImplTest {
                 .build();
         var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
         when(orderRepository.findByUserIdAndStatusNot(userId, OrderStatus.CANCELLED, pageable))
-                .thenReturn(new PageImpl<>(List.of(orderEntity)));
-        when(userRepository.findById(userId)).thenReturn(Optional.ofNullable(UserEntity.builder().id(userId).build()));
+                .thenReturn(new SliceImpl<>(List.of(orderEntity)));
 
         var orders = service.searchOrders(userId, null, pageable);
 
-        Assertions.assertEquals(1, orders.size());
+        Assertions.assertEquals(1, orders.getNumberOfElements());
+        Assertions.assertFalse(orders.hasNext());
+        Mockito.verify(userRepository, Mockito.never()).existsById(userId);
     }
 
     @Test
@@ -124,20 +137,29 @@ class OrderServiceImplTest {
                 .build();
         var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
         when(orderRepository.findByUserIdAndStatus(userId, status, pageable))
-                .thenReturn(new PageImpl<>(List.of(orderEntity)));
-        when(userRepository.findById(userId)).thenReturn(Optional.ofNullable(UserEntity.builder().id(userId).build()));
+                .thenReturn(new SliceImpl<>(List.of(orderEntity)));
 
         var orders = service.searchOrders(userId, status, pageable);
 
-        Assertions.assertEquals(1, orders.size());
+        Assertions.assertEquals(1, orders.getNumberOfElements());
     }
 
     @Test
     void searchOrdersUserNotFoundTest() {
         var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
+        when(orderRepository.findByUserIdAndStatusNot(1L, OrderStatus.CANCELLED, pageable)).thenReturn(new SliceImpl<>(List.of()));
         Assertions.assertThrows(UserNotFoundException.class, () -> service.searchOrders(1L, null, pageable));
     }
 
+    @Test
+    void searchOrdersOfUserWithoutOrdersTest() throws Exception {
+        var pageable = PageRequest.of(0, 1).withSort(Sort.by("timestamp").ascending());
+        when(orderRepository.findByUserIdAndStatusNot(1L, OrderStatus.CANCELLED, pageable)).thenReturn(new SliceImpl<>(List.of()));
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        Assertions.assertFalse(service.searchOrders(1L, null, pageable).hasContent());
+    }
+
     @Test
     void createOrderTest() throws Exception {
         var userId = 2L;
@@ -160,9 +182,36 @@ class OrderServiceImplTest {
         var orderDto = service.createOrder(request);
 
         Mockito.verify(orderRepository).save(any(OrderEntity.class));
+        Mockito.verify(orderEventListener).onOrderCreated(orderEntity);
         Assertions.assertEquals(fee, orderDto.fee());
     }
 
+    @Test
+    void createOrderRiskLimitExceededTest() {
+        var userId = 2L;
+        var asset = AssetEntity.builder().id(3L).shortName("BTC").build();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(UserEntity.builder().id(userId).build()));
+        when(assetRepository.findByShortName("BTC")).thenReturn(Optional.of(asset));
+        exposureLedger.onOrderRestored(OrderEntity.builder().id(1L).user(UserEntity.builder().id(userId).build()).asset(asset)
+                .type(OrderType.BUY).price(new BigDecimal(100)).status(OrderStatus.NEW).build());
+        var request = new OrderRequestDto(userId, "BTC", new BigDecimal(100), OrderType.BUY);
+
+        Assertions.assertThrows(RiskLimitExceededException.class, () -> service.createOrder(request));
+        Mockito.verify(orderRepository, Mockito.never()).save(any(OrderEntity.class));
+    }
+
+    @Test
+    void createOrderReleasesReservationOnFailureTest() {
+        var userId = 2L;
+        when(userRepository.findById(userId)).thenReturn(Optional.of(UserEntity.builder().id(userId).build()));
+        when(assetRepository.findByShortName("BTC")).thenReturn(Optional.of(AssetEntity.builder().id(3L).shortName("BTC").build()));
+        when(orderRepository.save(any(OrderEntity.class))).thenThrow(new IllegalStateException("Database unavailable"));
+        var request = new OrderRequestDto(userId, "BTC", new BigDecimal(100), OrderType.BUY);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service.createOrder(request));
+        Assertions.assertEquals(new OpenExposure(BigDecimal.ZERO, BigDecimal.ZERO, 0), exposureLedger.getExposure(userId, 3L));
+    }
+
     @Test
     void createOrderUserNotFoundTest() {
         var request = new OrderRequestDto(2L, "BTC", new BigDecimal(100), OrderType.BUY);
@@ -190,6 +239,7 @@ class OrderServiceImplTest {
 
         Assertions.assertEquals(OrderStatus.CANCELLED, orderEntity.getStatus());
         Mockito.verify(orderRepository).save(orderEntity);
+        Mockito.verify(orderEventListener).onOrderCancelled(orderEntity);
     }
 
     @Test
@@ -234,4 +284,106 @@ class OrderServiceImplTest {
 
         Assertions.assertThrows(OrderCancellationException.class, () -> service.cancelOrder(1L));
     }
+
+    @Test
+    void completeOrderTest() throws Exception {
+        var orderId = 1L;
+        var orderEntity = OrderEntity.builder().id(orderId)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build())
+                .fee(new BigDecimal("3.25"))
+                .status(OrderStatus.NEW)
+                .price(new BigDecimal(100))
+                .build();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(orderEntity));
+
+        service.completeOrder(orderId);
+
+        Assertions.assertEquals(OrderStatus.COMPLETED, orderEntity.getStatus());
+        Assertions.assertNotNull(orderEntity.getCompletedAt());
+        Mockito.verify(orderEventListener).onOrderCompleted(orderEntity);
+    }
+
+    @Test
+    void completeOrderAlreadyCancelledTest() {
+        var orderId = 1L;
+        var orderEntity = OrderEntity.builder().id(orderId)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build())
+                .status(OrderStatus.CANCELLED)
+                .price(new BigDecimal(100))
+                .build();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(orderEntity));
+
+        Assertions.assertThrows(OrderNotFoundException.class, () -> service.completeOrder(orderId));
+    }
+
+    @Test
+    void getOpenOrderFromIndexTest() throws Exception {
+        var orderId = 1L;
+        var asset = AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build();
+        openOrderIndex.add(OrderEntity.builder().id(orderId)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(asset)
+                .type(OrderType.BUY)
+                .fee(new BigDecimal("3.25"))
+                .status(OrderStatus.NEW)
+                .price(new BigDecimal("100.50"))
+                .timestamp(Instant.now())
+                .build());
+        when(assetRepository.findById(3L)).thenReturn(Optional.of(asset));
+
+        var orderDto = service.getOrderById(orderId);
+
+        Assertions.assertEquals("BTC", orderDto.asset());
+        Assertions.assertEquals(new BigDecimal("100.50"), orderDto.price());
+        Assertions.assertEquals(new BigDecimal("3.25"), orderDto.fee());
+        Mockito.verify(orderRepository, Mockito.never()).findById(orderId);
+    }
+
+    @Test
+    void cancelOpenOrderFromIndexTest() throws Exception {
+        var orderId = 1L;
+        var asset = AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build();
+        openOrderIndex.add(OrderEntity.builder().id(orderId)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(asset)
+                .type(OrderType.SELL)
+                .fee(new BigDecimal("3.25"))
+                .status(OrderStatus.NEW)
+                .price(new BigDecimal(100))
+                .timestamp(Instant.now())
+                .build());
+        when(assetRepository.findById(3L)).thenReturn(Optional.of(asset));
+        when(orderRepository.updateStatus(orderId, OrderStatus.NEW, OrderStatus.CANCELLED)).thenReturn(1);
+
+        service.cancelOrder(orderId);
+
+        Mockito.verify(orderRepository, Mockito.never()).findById(orderId);
+        Mockito.verify(orderEventListener).onOrderCancelled(Mockito.argThat(order ->
+                order.getId() == orderId && order.getStatus() == OrderStatus.CANCELLED && order.getUser().getId() == 2L
+                        && order.getAsset() == asset));
+    }
+
+    @Test
+    void completeOpenOrderOfUnknownAssetTest() throws Exception {
+        var orderId = 1L;
+        var orderEntity = OrderEntity.builder().id(orderId)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(AssetEntity.builder().id(3L).shortName("BTC").name("Bitcoin").build())
+                .type(OrderType.BUY)
+                .fee(new BigDecimal("3.25"))
+                .status(OrderStatus.NEW)
+                .price(new BigDecimal(100))
+                .timestamp(Instant.now())
+                .build();
+        openOrderIndex.add(orderEntity);
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(orderEntity));
+
+        service.completeOrder(orderId);
+
+        Mockito.verify(orderRepository, Mockito.never()).updateStatus(any(), any(), any(), any());
+        Mockito.verify(orderEventListener).onOrderCompleted(Mockito.argThat(order ->
+                order == orderEntity && order.getStatus() == OrderStatus.COMPLETED && order.getAsset() != null));
+    }
 }
@@ -0,0 +1,67 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.SettlementStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Times settlement of a generated business day: {@value #ORDERS} completed orders of {@value #USERS} users, spread
+ * over the day. Orders are inserted directly, so in-memory views of the context do not see them. Not part of the
+ * regular build, run with {@code mvn test -Dtest=SettlementBenchmark -Dbenchmark=true}.
+ */
+@SpringBootTest
+@DirtiesContext
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SettlementBenchmark {
+    private static final int ORDERS = 200_000;
+    private static final int USERS = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Test
+    void settleDayTest() throws Exception {
+        var businessDate = LocalDate.now(ZoneOffset.UTC).minusDays(2);
+        var dayStart = Timestamp.from(businessDate.atStartOfDay(ZoneOffset.UTC).toInstant());
+        jdbcTemplate.update("insert into Users(firstname, lastname, email, fee) "
+                + "select 'Bench', concat('User', x), concat('bench', x, '@example.com'), 0.10 from system_range(1, cast(? as int))", USERS - 1);
+        //Every 100th order keeps a stale fee and is reported as mismatch
+        jdbcTemplate.update("insert into Orders(user_id, type, asset_id, price, fee, status, timestamp, completed_at) "
+                        + "select u.id, mod(r.x, 2), 1 + mod(r.x, 3), 100 + mod(r.x, 1000), "
+                        + "case when mod(r.x, 100) = 0 then 0 else (100 + mod(r.x, 1000)) * u.fee end, cast(? as int), "
+                        + "dateadd(millisecond, r.x * 400, cast(? as timestamp with time zone)), "
+                        + "dateadd(millisecond, r.x * 400 + 100, cast(? as timestamp with time zone)) "
+                        + "from system_range(1, cast(? as int)) r "
+                        + "join (select id, fee, row_number() over (order by id) - 1 as n from Users) u on u.n = mod(r.x, cast(? as int))",
+                OrderStatus.COMPLETED.ordinal(), dayStart, dayStart, ORDERS, USERS);
+
+        var start = System.nanoTime();
+        settlementService.startSettlement(businessDate);
+        var run = settlementService.getSettlementRun(businessDate);
+        while (run.status() == SettlementStatus.RUNNING) {
+            Thread.sleep(10);
+            run = settlementService.getSettlementRun(businessDate);
+        }
+        var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("settled %d orders of %d users in %d ms, %.0f orders/s%n", run.orders(), run.users(),
+                elapsedMillis, run.orders() * 1000.0 / elapsedMillis);
+
+        Assertions.assertEquals(SettlementStatus.COMPLETED, run.status());
+        Assertions.assertEquals(ORDERS, run.orders());
+        Assertions.assertEquals(USERS, run.users());
+        Assertions.assertEquals(ORDERS / 100, run.mismatches());
+    }
+}
@@ -0,0 +1,238 @@
+package org.exchange.service;
+
+import org.exchange.exception.SettlementNotFoundException;
+import org.exchange.exception.SettlementRejectedException;
+import org.exchange.model.entity.FeeMismatchEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.SettlementRunEntity;
+import org.exchange.model.entity.SettlementStatus;
+import org.exchange.model.entity.UserEntity;
+import org.exchange.model.entity.UserSettlementEntity;
+import org.exchange.repository.FeeMismatchRepository;
+import org.exchange.repository.OrderRepository;
+import org.exchange.repository.SettlementRunRepository;
+import org.exchange.repository.UserSettlementRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class SettlementServiceImplTest {
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+    private static final Instant DAY_START = Instant.parse("2024-01-15T00:00:00Z");
+    private static final Instant DAY_END = Instant.parse("2024-01-16T00:00:00Z");
+
+    private SettlementServiceImpl service;
+
+    private OrderRepository orderRepository;
+
+    private SettlementRunRepository settlementRunRepository;
+
+    private FeeMismatchRepository feeMismatchRepository;
+
+    private final Map<Long, UserSettlementEntity> userSettlements = new HashMap<>();
+
+    private final List<SettlementRunEntity> savedRuns = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = Mockito.mock(OrderRepository.class);
+        settlementRunRepository = Mockito.mock(SettlementRunRepository.class);
+        feeMismatchRepository = Mockito.mock(FeeMismatchRepository.class);
+        var userSettlementRepository = Mockito.mock(UserSettlementRepository.class);
+        when(userSettlementRepository.findByBusinessDateAndUserIdIn(eq(BUSINESS_DATE), any())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(1);
+            return userIds.stream().map(userSettlements::get).filter(settlement -> settlement != null).toList();
+        });
+        when(userSettlementRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<UserSettlementEntity> settlements = invocation.getArgument(0);
+            settlements.forEach(settlement -> userSettlements.put(settlement.getUserId(), settlement));
+            return settlements;
+        });
+        when(settlementRunRepository.save(any(SettlementRunEntity.class))).thenAnswer(invocation -> {
+            SettlementRunEntity run = invocation.getArgument(0);
+            savedRuns.add(copy(run));
+            return run;
+        });
+        service = new SettlementServiceImpl(orderRepository, settlementRunRepository, userSettlementRepository, feeMismatchRepository,
+                new FixedFeeCalculator(), new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void settleChunksTest() {
+        var alice = UserEntity.builder().id(1L).fee(new BigDecimal("0.1")).build();
+        var bob = UserEntity.builder().id(2L).fee(new BigDecimal("0.1")).build();
+        var first = order(1L, alice, OrderType.BUY, "100", "10", DAY_START.plusSeconds(10));
+        var second = order(2L, bob, OrderType.SELL, "200", "5", DAY_START.plusSeconds(20));
+        var third = order(3L, alice, OrderType.SELL, "50", "5", DAY_START.plusSeconds(20));
+        when(orderRepository.findCompletedChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(first, second), List.of(third), List.of());
+
+        service.settle(newRun());
+
+        Mockito.verify(orderRepository).findCompletedChunk(eq(OrderStatus.COMPLETED), eq(DAY_START), eq(0L), eq(DAY_END), any());
+        Mockito.verify(orderRepository).findCompletedChunk(eq(OrderStatus.COMPLETED), eq(DAY_START.plusSeconds(20)), eq(2L), eq(DAY_END), any());
+        Mockito.verify(orderRepository).findCompletedChunk(eq(OrderStatus.COMPLETED), eq(DAY_START.plusSeconds(20)), eq(3L), eq(DAY_END), any());
+
+        var aliceSettlement = userSettlements.get(1L);
+        Assertions.assertEquals(2, aliceSettlement.getOrderCount());
+        Assertions.assertEquals(0, new BigDecimal("100").compareTo(aliceSettlement.getBuyNotional()));
+        Assertions.assertEquals(0, new BigDecimal("50").compareTo(aliceSettlement.getSellNotional()));
+        Assertions.assertEquals(0, new BigDecimal("15").compareTo(aliceSettlement.getFees()));
+        Assertions.assertEquals(1, userSettlements.get(2L).getOrderCount());
+
+        ArgumentCaptor<List<FeeMismatchEntity>> mismatches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(feeMismatchRepository, Mockito.times(2)).saveAll(mismatches.capture());
+        Assertions.assertEquals(1, mismatches.getAllValues().get(0).size());
+        Assertions.assertEquals(2L, mismatches.getAllValues().get(0).get(0).getOrderId());
+        Assertions.assertTrue(mismatches.getAllValues().get(1).isEmpty());
+
+        var completed = savedRuns.get(savedRuns.size() - 1);
+        Assertions.assertEquals(SettlementStatus.COMPLETED, completed.getStatus());
+        Assertions.assertEquals(3, completed.getOrderCount());
+        Assertions.assertEquals(2, completed.getUserCount());
+        Assertions.assertEquals(1, completed.getMismatchCount());
+        Assertions.assertEquals(0, new BigDecimal("20").compareTo(completed.getFees()));
+        Assertions.assertEquals(0, new BigDecimal("35").compareTo(completed.getRecomputedFees()));
+        Assertions.assertNotNull(completed.getFinishedAt());
+    }
+
+    @Test
+    void failedChunkKeepsCheckpointTest() {
+        var alice = UserEntity.builder().id(1L).fee(new BigDecimal("0.1")).build();
+        var first = order(1L, alice, OrderType.BUY, "100", "10", DAY_START.plusSeconds(10));
+        var second = order(2L, alice, OrderType.BUY, "100", "10", DAY_START.plusSeconds(20));
+        when(orderRepository.findCompletedChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(first), List.of(second));
+        when(feeMismatchRepository.saveAll(anyList())).thenReturn(List.of()).thenThrow(new IllegalStateException("Connection is lost"));
+        var checkpoint = newRun();
+        checkpoint.setLastCompletedAt(DAY_START.plusSeconds(10));
+        checkpoint.setLastOrderId(1L);
+        checkpoint.setOrderCount(1);
+        when(settlementRunRepository.findById(BUSINESS_DATE)).thenReturn(Optional.of(checkpoint));
+
+        service.settle(newRun());
+
+        var failed = savedRuns.get(savedRuns.size() - 1);
+        Assertions.assertEquals(SettlementStatus.FAILED, failed.getStatus());
+        Assertions.assertEquals(1L, failed.getLastOrderId());
+        Assertions.assertEquals(1, failed.getOrderCount());
+        Assertions.assertTrue(savedRuns.stream().noneMatch(run -> run.getStatus() == SettlementStatus.COMPLETED));
+    }
+
+    @Test
+    void failedReadKeepsCheckpointTest() {
+        var alice = UserEntity.builder().id(1L).fee(new BigDecimal("0.1")).build();
+        var first = order(1L, alice, OrderType.BUY, "100", "10", DAY_START.plusSeconds(10));
+        when(orderRepository.findCompletedChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(first)).thenThrow(new IllegalStateException("Connection is lost"));
+        when(settlementRunRepository.findById(BUSINESS_DATE)).thenAnswer(invocation -> Optional.of(savedRuns.get(savedRuns.size() - 1)));
+
+        service.settle(newRun());
+
+        //Next chunk is read while the first one is written, its failure surfaces after the first checkpoint is committed
+        Mockito.verify(orderRepository).findCompletedChunk(eq(OrderStatus.COMPLETED), eq(DAY_START.plusSeconds(10)), eq(1L), eq(DAY_END), any());
+        var failed = savedRuns.get(savedRuns.size() - 1);
+        Assertions.assertEquals(SettlementStatus.FAILED, failed.getStatus());
+        Assertions.assertEquals(1L, failed.getLastOrderId());
+        Assertions.assertEquals(1, failed.getOrderCount());
+        Assertions.assertEquals(1, userSettlements.get(1L).getOrderCount());
+    }
+
+    @Test
+    void startSettlementOfSettledDayTest() throws Exception {
+        var run = newRun();
+        run.setStatus(SettlementStatus.COMPLETED);
+        run.setOrderCount(10);
+        when(settlementRunRepository.findById(BUSINESS_DATE)).thenReturn(Optional.of(run));
+
+        var response = service.startSettlement(BUSINESS_DATE);
+
+        Assertions.assertEquals(SettlementStatus.COMPLETED, response.status());
+        Assertions.assertEquals(10, response.orders());
+        Mockito.verifyNoInteractions(orderRepository);
+        //Settled day can be requested again right away
+        Assertions.assertEquals(SettlementStatus.COMPLETED, service.startSettlement(BUSINESS_DATE).status());
+    }
+
+    @Test
+    void startSettlementOfCurrentDayRejectedTest() {
+        Assertions.assertThrows(SettlementRejectedException.class, () -> service.startSettlement(LocalDate.now(ZoneOffset.UTC)));
+        Mockito.verifyNoInteractions(settlementRunRepository);
+    }
+
+    @Test
+    void getSettlementRunNotFoundTest() {
+        when(settlementRunRepository.findById(BUSINESS_DATE)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(SettlementNotFoundException.class, () -> service.getSettlementRun(BUSINESS_DATE));
+    }
+
+    private static SettlementRunEntity newRun() {
+        return SettlementRunEntity.builder()
+                .businessDate(BUSINESS_DATE)
+                .status(SettlementStatus.RUNNING)
+                .lastCompletedAt(DAY_START)
+                .lastOrderId(0L)
+                .fees(BigDecimal.ZERO)
+                .recomputedFees(BigDecimal.ZERO)
+                .startedAt(Instant.now())
+                .build();
+    }
+
+    private static SettlementRunEntity copy(SettlementRunEntity run) {
+        return SettlementRunEntity.builder()
+                .businessDate(run.getBusinessDate())
+                .status(run.getStatus())
+                .lastCompletedAt(run.getLastCompletedAt())
+                .lastOrderId(run.getLastOrderId())
+                .orderCount(run.getOrderCount())
+                .userCount(run.getUserCount())
+                .mismatchCount(run.getMismatchCount())
+                .fees(run.getFees())
+                .recomputedFees(run.getRecomputedFees())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    private static OrderEntity order(Long id, UserEntity user, OrderType type, String price, String fee, Instant completedAt) {
+        return OrderEntity.builder()
+                .id(id)
+                .user(user)
+                .type(type)
+                .price(new BigDecimal(price))
+                .fee(new BigDecimal(fee))
+                .status(OrderStatus.COMPLETED)
+                .completedAt(completedAt)
+                .build();
+    }
+}
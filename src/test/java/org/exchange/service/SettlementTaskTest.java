@@ -0,0 +1,94 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+class SettlementTaskTest {
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 15);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    void settlesOrdersPerUserTest() {
+        var alice = UserEntity.builder().id(1L).fee(new BigDecimal("0.1")).build();
+        var bob = UserEntity.builder().id(2L).fee(new BigDecimal("0.2")).build();
+        var orders = List.of(
+                order(1L, alice, OrderType.BUY, "100", "10.00"),
+                order(2L, bob, OrderType.SELL, "50", "10"),
+                order(3L, alice, OrderType.SELL, "30", "3"),
+                order(4L, bob, OrderType.BUY, "20", "1"));
+
+        var settlements = pool.invoke(SettlementTask.of(BUSINESS_DATE, orders, new FixedFeeCalculator()));
+
+        Assertions.assertEquals(2, settlements.size());
+        var aliceSettlement = settlements.get(0);
+        Assertions.assertEquals(1L, aliceSettlement.userId());
+        Assertions.assertEquals(2, aliceSettlement.orders());
+        Assertions.assertEquals(0, new BigDecimal("100").compareTo(aliceSettlement.buyNotional()));
+        Assertions.assertEquals(0, new BigDecimal("30").compareTo(aliceSettlement.sellNotional()));
+        Assertions.assertEquals(0, new BigDecimal("13").compareTo(aliceSettlement.fees()));
+        Assertions.assertEquals(0, new BigDecimal("13").compareTo(aliceSettlement.recomputedFees()));
+        Assertions.assertTrue(aliceSettlement.mismatches().isEmpty());
+
+        var bobSettlement = settlements.get(1);
+        Assertions.assertEquals(2L, bobSettlement.userId());
+        Assertions.assertEquals(0, new BigDecimal("11").compareTo(bobSettlement.fees()));
+        Assertions.assertEquals(0, new BigDecimal("14").compareTo(bobSettlement.recomputedFees()));
+        Assertions.assertEquals(1, bobSettlement.mismatches().size());
+        var mismatch = bobSettlement.mismatches().get(0);
+        Assertions.assertEquals(4L, mismatch.getOrderId());
+        Assertions.assertEquals(BUSINESS_DATE, mismatch.getBusinessDate());
+        Assertions.assertEquals(0, BigDecimal.ONE.compareTo(mismatch.getStoredFee()));
+        Assertions.assertEquals(0, new BigDecimal("4").compareTo(mismatch.getRecomputedFee()));
+    }
+
+    @Test
+    void recomputedFeeRoundedToStoredScaleTest() {
+        var user = UserEntity.builder().id(1L).fee(new BigDecimal("0.15")).build();
+        var orders = List.of(order(1L, user, OrderType.BUY, "100.05", "15.01"));
+
+        var settlements = pool.invoke(SettlementTask.of(BUSINESS_DATE, orders, new FixedFeeCalculator()));
+
+        Assertions.assertTrue(settlements.get(0).mismatches().isEmpty());
+        Assertions.assertEquals(new BigDecimal("15.01"), settlements.get(0).recomputedFees());
+    }
+
+    @Test
+    void splitsUsersAcrossTasksInOrderTest() {
+        var orders = new ArrayList<OrderEntity>();
+        var users = SettlementTask.USERS_PER_TASK * 5 + 3;
+        for (long userId = 1; userId <= users; userId++) {
+            var user = UserEntity.builder().id(userId).fee(BigDecimal.ONE).build();
+            orders.add(order(userId, user, OrderType.BUY, "2", "2"));
+            orders.add(order(users + userId, user, OrderType.SELL, "3", "3"));
+        }
+
+        var settlements = pool.invoke(SettlementTask.of(BUSINESS_DATE, orders, new FixedFeeCalculator()));
+
+        Assertions.assertEquals(users, settlements.size());
+        for (int i = 0; i < users; i++) {
+            Assertions.assertEquals(i + 1L, settlements.get(i).userId());
+            Assertions.assertEquals(2, settlements.get(i).orders());
+            Assertions.assertEquals(0, new BigDecimal("5").compareTo(settlements.get(i).fees()));
+        }
+    }
+
+    private static OrderEntity order(Long id, UserEntity user, OrderType type, String price, String fee) {
+        return OrderEntity.builder()
+                .id(id)
+                .user(user)
+                .type(type)
+                .price(new BigDecimal(price))
+                .fee(new BigDecimal(fee))
+                .build();
+    }
+}
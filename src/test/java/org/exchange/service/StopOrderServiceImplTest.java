@@ -0,0 +1,164 @@
+package org.exchange.service;
+
+import org.exchange.exception.OrderCancellationException;
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.dto.OrderResponseDto;
+import org.exchange.model.dto.StopOrderRequestDto;
+import org.exchange.model.entity.AssetEntity;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.StopOrderEntity;
+import org.exchange.model.entity.StopOrderStatus;
+import org.exchange.model.entity.UserEntity;
+import org.exchange.repository.AssetRepository;
+import org.exchange.repository.StopOrderRepository;
+import org.exchange.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class StopOrderServiceImplTest {
+    private static final AssetEntity BTC = AssetEntity.builder().id(1L).shortName("BTC").name("Bitcoin").build();
+
+    private StopOrderServiceImpl service;
+
+    private StopOrderRepository stopOrderRepository;
+
+    private UserRepository userRepository;
+
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        stopOrderRepository = Mockito.mock(StopOrderRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        orderService = Mockito.mock(OrderServiceImpl.class);
+        var assetRepository = Mockito.mock(AssetRepository.class);
+        when(assetRepository.findAll()).thenReturn(List.of(BTC));
+        var assetCache = new AssetCache(assetRepository);
+        assetCache.run(null);
+        service = new StopOrderServiceImpl(stopOrderRepository, userRepository, assetCache, orderService,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void createStopOrderTest() throws Exception {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(UserEntity.builder().id(1L).build()));
+        when(stopOrderRepository.save(any(StopOrderEntity.class))).thenAnswer(invocation -> {
+            StopOrderEntity stopOrder = invocation.getArgument(0);
+            stopOrder.setId(5L);
+            return stopOrder;
+        });
+
+        var response = service.createStopOrder(new StopOrderRequestDto(1L, "BTC", new BigDecimal("101.00"), new BigDecimal("100.00"), OrderType.BUY));
+
+        Assertions.assertEquals(5L, response.id());
+        Assertions.assertEquals(StopOrderStatus.PENDING, response.status());
+        Assertions.assertEquals(1, service.pendingStopOrders());
+    }
+
+    @Test
+    void createStopOrderUserNotFoundTest() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(UserNotFoundException.class, () -> service.createStopOrder(
+                new StopOrderRequestDto(1L, "BTC", new BigDecimal("101.00"), new BigDecimal("100.00"), OrderType.BUY)));
+    }
+
+    @Test
+    void completedOrderTriggersStopsTest() throws Exception {
+        restore(stopOrder(1L, "100.00", OrderType.BUY), stopOrder(2L, "120.00", OrderType.BUY), stopOrder(3L, "90.00", OrderType.SELL));
+        when(stopOrderRepository.updateStatus(any(), any(), any())).thenReturn(1);
+        when(orderService.createOrder(any(OrderRequestDto.class))).thenReturn(
+                new OrderResponseDto(10L, 1L, "BTC", new BigDecimal("101.00"), BigDecimal.ONE, OrderType.BUY, OrderStatus.NEW, Instant.now()));
+
+        service.onOrderCompleted(completedOrder("105.00"));
+
+        Mockito.verify(stopOrderRepository).updateStatus(1L, StopOrderStatus.PENDING, StopOrderStatus.TRIGGERED);
+        Mockito.verify(orderService).createOrder(new OrderRequestDto(1L, "BTC", new BigDecimal("101.00"), OrderType.BUY));
+        Mockito.verify(stopOrderRepository).updateOrderId(1L, 10L);
+        Assertions.assertEquals(2, service.pendingStopOrders());
+    }
+
+    @Test
+    void cancelledStopNotSubmittedTest() throws Exception {
+        restore(stopOrder(1L, "100.00", OrderType.BUY));
+        when(stopOrderRepository.updateStatus(1L, StopOrderStatus.PENDING, StopOrderStatus.TRIGGERED)).thenReturn(0);
+
+        service.onOrderCompleted(completedOrder("105.00"));
+
+        Mockito.verify(orderService, Mockito.never()).createOrder(any(OrderRequestDto.class));
+    }
+
+    @Test
+    void failedSubmissionReturnsStopsTest() throws Exception {
+        restore(stopOrder(1L, "100.00", OrderType.BUY));
+        when(stopOrderRepository.updateStatus(any(), any(), any())).thenReturn(1);
+        when(orderService.createOrder(any(OrderRequestDto.class))).thenThrow(new IllegalStateException("Database unavailable"));
+
+        service.onOrderCompleted(completedOrder("105.00"));
+
+        Assertions.assertEquals(1, service.pendingStopOrders());
+    }
+
+    @Test
+    void cancelStopOrderTest() throws Exception {
+        var stopOrder = stopOrder(1L, "100.00", OrderType.BUY);
+        restore(stopOrder);
+        when(stopOrderRepository.findById(1L)).thenReturn(Optional.of(stopOrder));
+        when(stopOrderRepository.updateStatus(1L, StopOrderStatus.PENDING, StopOrderStatus.CANCELLED)).thenReturn(1);
+
+        service.cancelStopOrder(1L);
+
+        Assertions.assertEquals(0, service.pendingStopOrders());
+    }
+
+    @Test
+    void cancelTriggeredStopOrderTest() {
+        var stopOrder = stopOrder(1L, "100.00", OrderType.BUY);
+        stopOrder.setStatus(StopOrderStatus.TRIGGERED);
+        when(stopOrderRepository.findById(1L)).thenReturn(Optional.of(stopOrder));
+
+        Assertions.assertThrows(OrderCancellationException.class, () -> service.cancelStopOrder(1L));
+    }
+
+    private void restore(StopOrderEntity... stopOrders) {
+        when(stopOrderRepository.streamByStatus(StopOrderStatus.PENDING)).thenReturn(List.of(stopOrders).stream());
+        service.afterSingletonsInstantiated();
+    }
+
+    private static StopOrderEntity stopOrder(Long id, String triggerPrice, OrderType type) {
+        return StopOrderEntity.builder().id(id)
+                .user(UserEntity.builder().id(1L).build())
+                .asset(BTC)
+                .type(type)
+                .price(new BigDecimal("101.00"))
+                .triggerPrice(new BigDecimal(triggerPrice))
+                .status(StopOrderStatus.PENDING)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private static OrderEntity completedOrder(String price) {
+        return OrderEntity.builder().id(100L)
+                .user(UserEntity.builder().id(2L).build())
+                .asset(BTC)
+                .type(OrderType.SELL)
+                .price(new BigDecimal(price))
+                .status(OrderStatus.COMPLETED)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package org.exchange.service;
+
+import org.exchange.model.entity.OrderType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class TriggerBookTest {
+    private final TriggerBook triggerBook = new TriggerBook();
+
+    @Test
+    void buyStopsTriggeredByRisingPriceTest() {
+        var low = stop(1L, 1L, "100.00", OrderType.BUY);
+        var high = stop(2L, 1L, "110.00", OrderType.BUY);
+        var sameLevel = stop(3L, 1L, "100.00", OrderType.BUY);
+        triggerBook.add(high);
+        triggerBook.add(low);
+        triggerBook.add(sameLevel);
+
+        Assertions.assertEquals(List.of(), triggerBook.pollTriggered(1L, new BigDecimal("99.99")));
+        Assertions.assertEquals(List.of(low, sameLevel), triggerBook.pollTriggered(1L, new BigDecimal("105")));
+        Assertions.assertEquals(List.of(high), triggerBook.pollTriggered(1L, new BigDecimal("110")));
+        Assertions.assertEquals(0, triggerBook.size());
+    }
+
+    @Test
+    void sellStopsTriggeredByFallingPriceTest() {
+        var low = stop(1L, 1L, "90.00", OrderType.SELL);
+        var high = stop(2L, 1L, "95.00", OrderType.SELL);
+        var buy = stop(3L, 1L, "120.00", OrderType.BUY);
+        triggerBook.add(low);
+        triggerBook.add(high);
+        triggerBook.add(buy);
+
+        Assertions.assertEquals(List.of(high, low), triggerBook.pollTriggered(1L, new BigDecimal("80")));
+        Assertions.assertEquals(1, triggerBook.size());
+    }
+
+    @Test
+    void triggersAreKeptPerAssetTest() {
+        var btc = stop(1L, 1L, "100.00", OrderType.BUY);
+        var eth = stop(2L, 2L, "100.00", OrderType.BUY);
+        triggerBook.add(btc);
+        triggerBook.add(eth);
+
+        Assertions.assertEquals(List.of(eth), triggerBook.pollTriggered(2L, new BigDecimal("100")));
+        Assertions.assertEquals(List.of(), triggerBook.pollTriggered(3L, new BigDecimal("100")));
+        Assertions.assertEquals(1, triggerBook.size());
+    }
+
+    @Test
+    void removeTest() {
+        var stop = stop(1L, 1L, "100.00", OrderType.BUY);
+        triggerBook.add(stop);
+
+        Assertions.assertTrue(triggerBook.remove(stop));
+        Assertions.assertFalse(triggerBook.remove(stop));
+        Assertions.assertEquals(List.of(), triggerBook.pollTriggered(1L, new BigDecimal("200")));
+    }
+
+    private static PendingStop stop(long id, long assetId, String triggerPrice, OrderType type) {
+        return new PendingStop(id, 1L, assetId, new BigDecimal("100.00"), new BigDecimal(triggerPrice), type);
+    }
+}
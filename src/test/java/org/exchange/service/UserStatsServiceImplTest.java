@@ -0,0 +1,154 @@
+package org.exchange.service;
+
+import org.exchange.exception.UserNotFoundException;
+import org.exchange.model.entity.OrderEntity;
+import org.exchange.model.entity.OrderStatus;
+import org.exchange.model.entity.OrderType;
+import org.exchange.model.entity.UserEntity;
+import org.exchange.repository.OrderRepository;
+import org.exchange.repository.OrderTotalsView;
+import org.exchange.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+class UserStatsServiceImplTest {
+    private UserStatsServiceImpl service;
+
+    private OrderRepository orderRepository;
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = Mockito.mock(OrderRepository.class);
+        userRepository = Mockito.mock(UserRepository.class);
+        service = new UserStatsServiceImpl(orderRepository, userRepository);
+    }
+
+    @Test
+    void orderEventsTest() throws Exception {
+        var userId = 1L;
+        var buy = order(1L, userId, OrderType.BUY, new BigDecimal("100.50"), new BigDecimal("5.03"));
+        var sell = order(2L, userId, OrderType.SELL, new BigDecimal(200), new BigDecimal(10));
+        var cancelled = order(3L, userId, OrderType.BUY, new BigDecimal(300), new BigDecimal(15));
+
+        service.onOrderCreated(buy);
+        service.onOrderCreated(sell);
+        service.onOrderCreated(cancelled);
+        service.onOrderCompleted(buy);
+        service.onOrderCompleted(sell);
+        service.onOrderCancelled(cancelled);
+
+        var stats = service.getUserStats(userId);
+
+        Assertions.assertEquals(0, stats.openOrders());
+        Assertions.assertEquals(new BigDecimal("100.50"), stats.buyNotional());
+        Assertions.assertEquals(new BigDecimal(200), stats.sellNotional());
+        Assertions.assertEquals(new BigDecimal("15.03"), stats.feesPaid());
+        Assertions.assertEquals(2L, stats.ordersByStatus().get(OrderStatus.COMPLETED));
+        Assertions.assertEquals(1L, stats.ordersByStatus().get(OrderStatus.CANCELLED));
+        //Users with orders are served from memory only
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void rebuildFromDatabaseTest() throws Exception {
+        var userId = 1L;
+        when(orderRepository.aggregateTotals()).thenReturn(List.of(
+                totals(userId, OrderStatus.NEW, OrderType.BUY, 3, new BigDecimal(300), new BigDecimal(30)),
+                totals(userId, OrderStatus.COMPLETED, OrderType.SELL, 2, new BigDecimal(400), new BigDecimal(40))));
+
+        service.afterSingletonsInstantiated();
+        var stats = service.getUserStats(userId);
+
+        Assertions.assertEquals(3, stats.openOrders());
+        Assertions.assertEquals(BigDecimal.ZERO, stats.buyNotional());
+        Assertions.assertEquals(new BigDecimal(400), stats.sellNotional());
+        Assertions.assertEquals(new BigDecimal(40), stats.feesPaid());
+    }
+
+    @Test
+    void countOrdersTest() {
+        var userId = 1L;
+        var completed = order(1L, userId, OrderType.BUY, new BigDecimal(100), new BigDecimal(5));
+        var cancelled = order(2L, userId, OrderType.SELL, new BigDecimal(100), new BigDecimal(5));
+        service.onOrderCreated(completed);
+        service.onOrderCreated(cancelled);
+        service.onOrderCreated(order(3L, userId, OrderType.BUY, new BigDecimal(100), new BigDecimal(5)));
+        service.onOrderCompleted(completed);
+        service.onOrderCancelled(cancelled);
+
+        Assertions.assertEquals(2, service.countOrders(userId, null));
+        Assertions.assertEquals(1, service.countOrders(userId, OrderStatus.NEW));
+        Assertions.assertEquals(1, service.countOrders(userId, OrderStatus.CANCELLED));
+        Assertions.assertEquals(0, service.countOrders(2L, null));
+    }
+
+    @Test
+    void userWithoutOrdersTest() throws Exception {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        var stats = service.getUserStats(1L);
+
+        Assertions.assertEquals(0, stats.openOrders());
+        Assertions.assertEquals(0L, stats.ordersByStatus().get(OrderStatus.NEW));
+        Mockito.verify(userRepository).existsById(1L);
+    }
+
+    @Test
+    void userNotFoundTest() {
+        Assertions.assertThrows(UserNotFoundException.class, () -> service.getUserStats(1L));
+    }
+
+    private static OrderEntity order(Long id, Long userId, OrderType type, BigDecimal price, BigDecimal fee) {
+        return OrderEntity.builder().id(id)
+                .user(UserEntity.builder().id(userId).build())
+                .type(type)
+                .price(price)
+                .fee(fee)
+                .status(OrderStatus.NEW)
+                .build();
+    }
+
+    //Plain implementation, stubbing mocks inside the outer when(...) leaves that stubbing unfinished
+    private static OrderTotalsView totals(Long userId, OrderStatus status, OrderType type, long count, BigDecimal notional, BigDecimal fees) {
+        return new OrderTotalsView() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public OrderType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getNotional() {
+                return notional;
+            }
+
+            @Override
+            public BigDecimal getFees() {
+                return fees;
+            }
+        };
+    }
+}
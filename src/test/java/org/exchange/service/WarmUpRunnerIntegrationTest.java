@@ -0,0 +1,47 @@
+package org.exchange.service;
+
+import org.exchange.model.dto.OrderRequestDto;
+import org.exchange.model.entity.OrderType;
+import org.exchange.repository.OrderRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+
+/**
+ * Warm-up runs on startup of this context and should leave no trace in the database or in-memory views.
+ */
+@SpringBootTest(properties = {"exchange.warmup.enabled=true", "exchange.warmup.iterations=50"})
+@DirtiesContext
+class WarmUpRunnerIntegrationTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OpenOrderIndex openOrderIndex;
+
+    @Autowired
+    private ExposureLedger exposureLedger;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    void warmUpLeavesNoOrdersTest() throws Exception {
+        Assertions.assertEquals(0, orderRepository.count());
+        Assertions.assertEquals(0, openOrderIndex.size());
+        var exposure = exposureLedger.getExposure(WarmUpRunner.WARM_UP_USER_ID, 1L);
+        Assertions.assertEquals(0, exposure.openOrders());
+        Assertions.assertEquals(0, exposure.buyNotional().signum());
+        Assertions.assertEquals(0, exposure.sellNotional().signum());
+
+        var order = orderService.createOrder(new OrderRequestDto(1L, "BTC", new BigDecimal("100.00"), OrderType.BUY));
+
+        Assertions.assertEquals(1L, order.id());
+        Assertions.assertNotNull(openOrderIndex.get(order.id()));
+    }
+}
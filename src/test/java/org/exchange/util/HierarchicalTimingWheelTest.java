@@ -0,0 +1,95 @@
+package org.exchange.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void scheduleAndAdvanceTest() {
+        var wheel = new HierarchicalTimingWheel(10, 2, 2, 0);
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(1L, 25);
+        wheel.schedule(2L, 100);
+        wheel.schedule(3L, 1_000);
+
+        Assertions.assertEquals(0, wheel.advance(20, fired::add));
+        Assertions.assertEquals(1, wheel.advance(30, fired::add));
+        Assertions.assertEquals(List.of(1L), fired);
+        Assertions.assertEquals(1, wheel.advance(100, fired::add));
+        Assertions.assertEquals(List.of(1L, 2L), fired);
+        Assertions.assertEquals(1, wheel.advance(5_000, fired::add));
+        Assertions.assertEquals(List.of(1L, 2L, 3L), fired);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancelAndRescheduleTest() {
+        var wheel = new HierarchicalTimingWheel(10, 2, 2, 0);
+        List<Long> fired = new ArrayList<>();
+
+        wheel.schedule(1L, 50);
+        wheel.schedule(2L, 50);
+        wheel.schedule(2L, 500);
+
+        Assertions.assertTrue(wheel.cancel(1L));
+        Assertions.assertFalse(wheel.cancel(1L));
+        Assertions.assertEquals(0, wheel.advance(100, fired::add));
+        Assertions.assertEquals(1, wheel.advance(500, fired::add));
+        Assertions.assertEquals(List.of(2L), fired);
+    }
+
+    @Test
+    void overdueDeadlineFiresOnNextTickTest() {
+        var wheel = new HierarchicalTimingWheel(10, 2, 2, 0);
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(100, fired::add);
+
+        wheel.schedule(1L, 50);
+
+        Assertions.assertEquals(1, wheel.advance(110, fired::add));
+        Assertions.assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void randomOperationsMatchReferenceTest() {
+        var wheel = new HierarchicalTimingWheel(1, 3, 3, 0);
+        var deadlines = new HashMap<Long, Long>();
+        var random = new Random(42);
+        var now = 0L;
+        for (int i = 0; i < 50_000; i++) {
+            var id = 1 + (long) random.nextInt(2_000);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    //Beyond the top level span as well
+                    var deadline = now + 1 + random.nextInt(1_000);
+                    wheel.schedule(id, deadline);
+                    deadlines.put(id, deadline);
+                }
+                case 2 -> Assertions.assertEquals(deadlines.remove(id) != null, wheel.cancel(id));
+                default -> {
+                    now += random.nextInt(20);
+                    var target = now;
+                    var expected = new TreeSet<Long>();
+                    deadlines.forEach((key, deadline) -> {
+                        if (deadline <= target) {
+                            expected.add(key);
+                        }
+                    });
+                    var actual = new TreeSet<Long>();
+                    wheel.advance(now, actual::add);
+                    Assertions.assertEquals(expected, actual);
+                    expected.forEach(deadlines::remove);
+                }
+            }
+            Assertions.assertEquals(deadlines.size(), wheel.size());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.exchange.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+class LongIntHashMapTest {
+
+    @Test
+    void putGetRemoveTest() {
+        var map = new LongIntHashMap(4, -1);
+
+        Assertions.assertEquals(-1, map.put(10L, 1));
+        Assertions.assertEquals(1, map.put(10L, 2));
+        Assertions.assertEquals(2, map.get(10L));
+        Assertions.assertEquals(-1, map.get(11L));
+        Assertions.assertEquals(2, map.remove(10L));
+        Assertions.assertEquals(-1, map.remove(10L));
+        Assertions.assertEquals(0, map.size());
+    }
+
+    @Test
+    void reservedKeyTest() {
+        var map = new LongIntHashMap(4, -1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+    }
+
+    @Test
+    void randomOperationsMatchHashMapTest() {
+        var map = new LongIntHashMap(16, -1);
+        var expected = new HashMap<Long, Integer>();
+        var random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            var key = 1 + (long) random.nextInt(5_000);
+            var value = i;
+            switch (random.nextInt(3)) {
+                case 0 -> Assertions.assertEquals(orMissing(expected.put(key, value)), map.put(key, value), "put " + key);
+                case 1 -> Assertions.assertEquals(orMissing(expected.remove(key)), map.remove(key), "remove " + key);
+                default -> Assertions.assertEquals(orMissing(expected.get(key)), map.get(key), "get " + key);
+            }
+            Assertions.assertEquals(expected.size(), map.size());
+        }
+    }
+
+    private static int orMissing(Integer value) {
+        return value != null ? value : -1;
+    }
+}